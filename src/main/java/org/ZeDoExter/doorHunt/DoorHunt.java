@@ -3,21 +3,30 @@ package org.ZeDoExter.doorHunt;
 import org.ZeDoExter.doorHunt.command.DoorHuntCommand;
 import org.ZeDoExter.doorHunt.game.GameManager;
 import org.ZeDoExter.doorHunt.listener.GameListener;
+import org.ZeDoExter.doorHunt.listener.ListenerRegistry;
 import org.ZeDoExter.doorHunt.listener.SettingsListener;
 import org.ZeDoExter.doorHunt.scoreboard.ScoreboardService;
+import org.ZeDoExter.doorHunt.session.SessionManager;
 import org.ZeDoExter.doorHunt.util.LocationUtil;
 import org.ZeDoExter.doorHunt.util.LanguageManager;
+import org.ZeDoExter.doorHunt.util.LoadGovernor;
+import org.ZeDoExter.doorHunt.util.NameCacheService;
 import org.ZeDoExter.doorHunt.util.QualityArmoryHook;
 import org.ZeDoExter.doorHunt.util.TabListService;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffect;
 
@@ -25,6 +34,7 @@ import java.io.File;
 
 public class DoorHunt extends JavaPlugin {
     private static final String RETURN_ITEM_NAME = "&cReturn to Lobby";
+    private static final Material RETURN_ITEM_MATERIAL = Material.RED_BED;
 
     private GameManager gameManager;
     private ScoreboardService scoreboardService;
@@ -33,22 +43,37 @@ public class DoorHunt extends JavaPlugin {
     private LanguageManager languageManager;
     private QualityArmoryHook qualityArmoryHook;
     private TabListService tabListService;
+    private NamespacedKey returnItemKey;
+    private ListenerRegistry listenerRegistry;
+    private SessionManager sessionManager;
+    private NameCacheService nameCache;
+    private LoadGovernor loadGovernor;
 
     @Override
     public void onEnable() {
+        returnItemKey = new NamespacedKey(this, "return_item");
+        sessionManager = new SessionManager();
+        nameCache = new NameCacheService(this);
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            sessionManager.create(online);
+            nameCache.remember(online.getUniqueId(), online.getName());
+        }
         saveDefaultConfig();
         loadLobbyLocation();
         saveResourceIfNotExists("scoreboard.yml");
         saveResourceIfNotExists("language.yml");
+        saveResourceIfNotExists("languages/en_us.yml");
         loadScoreboardConfig();
+        loadGovernor = new LoadGovernor(this);
+        loadGovernor.reload();
         scoreboardService = new ScoreboardService(this);
         scoreboardService.reload();
         languageManager = new LanguageManager(this);
         languageManager.reload();
         qualityArmoryHook = new QualityArmoryHook(this);
         qualityArmoryHook.reload();
-        tabListService = new TabListService(this);
-        gameManager = new GameManager(this, scoreboardService);
+        tabListService = new TabListService(this, sessionManager);
+        gameManager = new GameManager(this, scoreboardService, sessionManager);
         gameManager.loadArenas();
 
         DoorHuntCommand command = new DoorHuntCommand(this, gameManager);
@@ -56,6 +81,7 @@ public class DoorHunt extends JavaPlugin {
             getCommand("dh").setExecutor(command);
             getCommand("dh").setTabCompleter(command);
         }
+        listenerRegistry = new ListenerRegistry(this, gameManager);
         Bukkit.getPluginManager().registerEvents(new GameListener(this, gameManager), this);
         Bukkit.getPluginManager().registerEvents(new SettingsListener(this, gameManager), this);
 
@@ -72,9 +98,21 @@ public class DoorHunt extends JavaPlugin {
         if (gameManager != null) {
             gameManager.shutdown();
         }
+        if (listenerRegistry != null) {
+            listenerRegistry.shutdown();
+        }
+        if (scoreboardService != null) {
+            scoreboardService.shutdown();
+        }
+        if (loadGovernor != null) {
+            loadGovernor.shutdown();
+        }
         if (tabListService != null) {
             tabListService.clearAll();
         }
+        if (sessionManager != null) {
+            sessionManager.clear();
+        }
     }
 
     public String color(String message) {
@@ -165,6 +203,22 @@ public class DoorHunt extends JavaPlugin {
         return tabListService;
     }
 
+    public LoadGovernor getLoadGovernor() {
+        return loadGovernor;
+    }
+
+    public NameCacheService getNameCache() {
+        return nameCache;
+    }
+
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    public ListenerRegistry getListenerRegistry() {
+        return listenerRegistry;
+    }
+
     private void saveResourceIfNotExists(String resource) {
         File file = new File(getDataFolder(), resource);
         if (!file.exists()) {
@@ -173,10 +227,22 @@ public class DoorHunt extends JavaPlugin {
     }
 
     public boolean isReturnItem(ItemStack item) {
-        if (item == null || !item.hasItemMeta() || !item.getItemMeta().hasDisplayName()) {
+        if (item == null || item.getType() != RETURN_ITEM_MATERIAL || !item.hasItemMeta()) {
             return false;
         }
-        return item.getItemMeta().getDisplayName().equals(color(RETURN_ITEM_NAME));
+        return item.getItemMeta().getPersistentDataContainer().has(returnItemKey, PersistentDataType.BYTE);
+    }
+
+    public ItemStack createReturnItem() {
+        ItemStack item = new ItemStack(RETURN_ITEM_MATERIAL);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(getReturnItemName());
+            meta.addItemFlags(ItemFlag.values());
+            meta.getPersistentDataContainer().set(returnItemKey, PersistentDataType.BYTE, (byte) 1);
+            item.setItemMeta(meta);
+        }
+        return item;
     }
 
     public String getReturnItemName() {
@@ -1,9 +1,11 @@
 package org.ZeDoExter.doorHunt.command;
 
 import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.game.ArenaRegion;
 import org.ZeDoExter.doorHunt.game.GameArena;
 import org.ZeDoExter.doorHunt.game.GameInstance;
 import org.ZeDoExter.doorHunt.game.GameManager;
+import org.ZeDoExter.doorHunt.util.LoadGovernor;
 import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -20,23 +22,37 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
 
     private enum LocationArgument {
         LOBBY("lobby", GameArena::getLobbyLocation, GameArena::setLobbyLocation),
-        HIDER("hider", GameArena::getHiderSpawn, GameArena::setHiderSpawn),
-        SEEKER_WAIT("seeker-wait", GameArena::getSeekerWaitSpawn, GameArena::setSeekerWaitSpawn);
+        HIDER("hider", GameArena::getHiderSpawn, GameArena::setHiderSpawn, GameArena::getHiderSpawns, GameArena::addHiderSpawn),
+        SEEKER_WAIT("seeker-wait", GameArena::getSeekerWaitSpawn, GameArena::setSeekerWaitSpawn, GameArena::getSeekerWaitSpawns, GameArena::addSeekerWaitSpawn);
 
         private final String key;
         private final java.util.function.Function<GameArena, Location> getter;
         private final java.util.function.BiConsumer<GameArena, Location> setter;
         private final java.util.function.Predicate<GameArena> configured;
+        private final java.util.function.Function<GameArena, List<Location>> group;
+        private final java.util.function.BiConsumer<GameArena, Location> adder;
 
         LocationArgument(String key, java.util.function.Function<GameArena, Location> getter, java.util.function.BiConsumer<GameArena, Location> setter) {
             this(key, getter, setter, arena -> getter.apply(arena) != null);
         }
 
+        LocationArgument(String key, java.util.function.Function<GameArena, Location> getter, java.util.function.BiConsumer<GameArena, Location> setter,
+                         java.util.function.Function<GameArena, List<Location>> group, java.util.function.BiConsumer<GameArena, Location> adder) {
+            this(key, getter, setter, arena -> getter.apply(arena) != null, group, adder);
+        }
+
         LocationArgument(String key, java.util.function.Function<GameArena, Location> getter, java.util.function.BiConsumer<GameArena, Location> setter, java.util.function.Predicate<GameArena> configured) {
+            this(key, getter, setter, configured, null, null);
+        }
+
+        LocationArgument(String key, java.util.function.Function<GameArena, Location> getter, java.util.function.BiConsumer<GameArena, Location> setter, java.util.function.Predicate<GameArena> configured,
+                         java.util.function.Function<GameArena, List<Location>> group, java.util.function.BiConsumer<GameArena, Location> adder) {
             this.key = key;
             this.getter = getter;
             this.setter = setter;
             this.configured = configured;
+            this.group = group;
+            this.adder = adder;
         }
 
         public String key() {
@@ -55,6 +71,23 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             return configured.test(arena);
         }
 
+        public boolean isGroup() {
+            return adder != null;
+        }
+
+        public List<Location> points(GameArena arena) {
+            if (group == null) {
+                Location location = getter.apply(arena);
+                return location == null ? List.of() : List.of(location);
+            }
+            return group.apply(arena);
+        }
+
+        public int add(GameArena arena, Location location) {
+            adder.accept(arena, location);
+            return group.apply(arena).size();
+        }
+
         public static Optional<LocationArgument> from(String input) {
             return Arrays.stream(values())
                     .filter(arg -> arg.key.equalsIgnoreCase(input))
@@ -88,11 +121,13 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             case "create" -> handleCreate(sender, args);
             case "delete" -> handleDelete(sender, args);
             case "setloc" -> handleSetLocation(sender, args);
+            case "region" -> handleRegion(sender, args);
             case "tp" -> handleTeleport(sender, args);
             case "settings" -> handleSettings(sender, args);
             case "end" -> handleEnd(sender, args);
             case "setlobby" -> handleSetLobby(sender);
             case "reload" -> handleReload(sender);
+            case "perf" -> handlePerf(sender);
             default -> sendHelp(sender);
         }
         return true;
@@ -201,7 +236,7 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             return;
         }
         if (args.length < 3) {
-            sender.sendMessage(plugin.prefixed("&eUsage: /dh setloc <id> <" + String.join("|", LocationArgument.keys()) + ">"));
+            sender.sendMessage(plugin.prefixed("&eUsage: /dh setloc <id> <" + String.join("|", LocationArgument.keys()) + "> [add|clear]"));
             return;
         }
         GameArena arena = gameManager.getArena(args[1]);
@@ -215,9 +250,101 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(plugin.prefixed("&cValid locations: " + String.join(", ", LocationArgument.keys())));
             return;
         }
-        argument.get().set(arena, location);
+        String mode = args.length > 3 ? args[3].toLowerCase(Locale.ROOT) : "set";
+        switch (mode) {
+            case "set" -> {
+                argument.get().set(arena, location);
+                sender.sendMessage(plugin.prefixed("&aSet location &e" + argument.get().key() + " &a."));
+            }
+            case "add" -> {
+                if (!argument.get().isGroup()) {
+                    sender.sendMessage(plugin.prefixed("&cOnly spawn groups (hider, seeker-wait) can hold multiple points."));
+                    return;
+                }
+                int count = argument.get().add(arena, location);
+                sender.sendMessage(plugin.prefixed("&aAdded point &e#" + count + " &ato &e" + argument.get().key() + "&a."));
+            }
+            case "clear" -> {
+                argument.get().set(arena, null);
+                sender.sendMessage(plugin.prefixed("&aCleared location &e" + argument.get().key() + "&a."));
+            }
+            default -> {
+                sender.sendMessage(plugin.prefixed("&eUsage: /dh setloc <id> <" + String.join("|", LocationArgument.keys()) + "> [add|clear]"));
+                return;
+            }
+        }
         gameManager.saveArena(arena);
-        sender.sendMessage(plugin.prefixed("&aSet location &e" + argument.get().key() + " &a."));
+    }
+
+    private void handleRegion(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            sender.sendMessage(plugin.prefixed("&cOnly players can use this command."));
+            return;
+        }
+        if (!sender.hasPermission("doorhunt.admin")) {
+            sender.sendMessage(plugin.prefixed("&cYou don't have permission."));
+            return;
+        }
+        if (args.length < 3) {
+            sender.sendMessage(plugin.prefixed("&eUsage: /dh region <id> <pos1|pos2|add|height|clear|info>"));
+            return;
+        }
+        GameArena arena = gameManager.getArena(args[1]);
+        if (arena == null) {
+            sender.sendMessage(plugin.prefixed("&cNo arena with that id exists."));
+            return;
+        }
+        Location location = player.getLocation();
+        switch (args[2].toLowerCase(Locale.ROOT)) {
+            case "pos1", "pos2" -> {
+                arena.setRegionCorner(location.getWorld(), args[2].endsWith("1") ? 0 : 1, location.getBlockX(), location.getBlockZ());
+                sender.sendMessage(plugin.prefixed("&aSet region corner &e" + args[2].toLowerCase(Locale.ROOT) + " &ato &e"
+                        + location.getBlockX() + ", " + location.getBlockZ() + "&a."));
+            }
+            case "add" -> {
+                arena.addRegionPoint(location.getWorld(), location.getBlockX(), location.getBlockZ());
+                sender.sendMessage(plugin.prefixed("&aAdded region point &e#" + arena.getRegionPoints().size() + "&a."));
+            }
+            case "height" -> {
+                if (args.length < 5) {
+                    sender.sendMessage(plugin.prefixed("&eUsage: /dh region <id> height <minY> <maxY>"));
+                    return;
+                }
+                int minY = parseInt(args[3], Integer.MIN_VALUE);
+                int maxY = parseInt(args[4], Integer.MIN_VALUE);
+                if (minY == Integer.MIN_VALUE || maxY == Integer.MIN_VALUE) {
+                    sender.sendMessage(plugin.prefixed("&cHeights must be whole numbers."));
+                    return;
+                }
+                arena.setRegionHeight(minY, maxY);
+                sender.sendMessage(plugin.prefixed("&aRegion height set to &e" + Math.min(minY, maxY) + " - " + Math.max(minY, maxY) + "&a."));
+            }
+            case "clear" -> {
+                arena.clearRegion();
+                sender.sendMessage(plugin.prefixed("&aCleared the region; escape checks, door shuffles and sweeps are off until a new one is set."));
+            }
+            case "info" -> {
+                sendRegionInfo(sender, arena);
+                return;
+            }
+            default -> {
+                sender.sendMessage(plugin.prefixed("&eUsage: /dh region <id> <pos1|pos2|add|height|clear|info>"));
+                return;
+            }
+        }
+        gameManager.saveArena(arena);
+    }
+
+    private void sendRegionInfo(CommandSender sender, GameArena arena) {
+        ArenaRegion region = arena.getRegion();
+        if (region == null) {
+            sender.sendMessage(plugin.prefixed("&cThis arena has no region yet. Set one with /dh region " + arena.getId() + " pos1|pos2|add."));
+            return;
+        }
+        String shape = region.isPolygon() ? "polygon (" + arena.getRegionPoints().size() + " points)" : "box";
+        sender.sendMessage(plugin.prefixed("&eRegion: &f" + shape + " &7in &f" + region.getWorld().getName()));
+        sender.sendMessage(plugin.prefixed("&eBounds: &f" + region.getMinX() + ", " + region.getMinY() + ", " + region.getMinZ()
+                + " &7-> &f" + region.getMaxX() + ", " + region.getMaxY() + ", " + region.getMaxZ()));
     }
 
     private void handleTeleport(CommandSender sender, String[] args) {
@@ -230,7 +357,7 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             return;
         }
         if (args.length < 3) {
-            sender.sendMessage(plugin.prefixed("&eUsage: /dh tp <id> <" + String.join("|", LocationArgument.keys()) + ">"));
+            sender.sendMessage(plugin.prefixed("&eUsage: /dh tp <id> <" + String.join("|", LocationArgument.keys()) + "> [point]"));
             return;
         }
         GameArena arena = gameManager.getArena(args[1]);
@@ -247,8 +374,20 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(plugin.prefixed("&cThat location has not been set."));
             return;
         }
-        Location location = argument.get().get(arena);
-        player.teleport(location);
+        List<Location> points = argument.get().points(arena);
+        int point = 1;
+        if (args.length > 3) {
+            try {
+                point = Integer.parseInt(args[3]);
+            } catch (NumberFormatException ex) {
+                point = 0;
+            }
+            if (point < 1 || point > points.size()) {
+                sender.sendMessage(plugin.prefixed("&cPoint must be between 1 and " + points.size() + "."));
+                return;
+            }
+        }
+        player.teleport(points.get(point - 1));
         sender.sendMessage(plugin.prefixed("&aTeleported."));
     }
 
@@ -331,6 +470,7 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             return;
         }
         plugin.reloadConfig();
+        plugin.getLoadGovernor().reload();
         plugin.loadLobbyLocation();
         plugin.reloadScoreboard();
         plugin.getLanguageManager().reload();
@@ -339,6 +479,26 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(plugin.prefixed("&aReloaded configuration."));
     }
 
+    private void handlePerf(CommandSender sender) {
+        if (!sender.hasPermission("doorhunt.admin")) {
+            sender.sendMessage(plugin.prefixed("&cYou don't have permission."));
+            return;
+        }
+        LoadGovernor governor = plugin.getLoadGovernor();
+        String mspt = String.format(Locale.ROOT, "%.1f", governor.getMspt());
+        String status = governor.isThrottled() ? "&cthrottled (level " + governor.getLevel() + ")" : "&anormal";
+        sender.sendMessage(plugin.prefixed("&6Door Hunt performance:"));
+        sender.sendMessage(plugin.prefixed("&eMSPT: &f" + mspt + " &7- " + status));
+        sender.sendMessage(plugin.prefixed("&eRefresh interval: &f" + governor.getRefreshInterval() + " ticks"));
+        List<String> shed = new ArrayList<>();
+        for (LoadGovernor.Cosmetic kind : LoadGovernor.Cosmetic.values()) {
+            shed.add(kind.key() + "=" + governor.getShedCount(kind));
+        }
+        sender.sendMessage(plugin.prefixed("&eShed cosmetics: &f" + governor.getTotalShed() + " &7(" + String.join(", ", shed) + ")"));
+        sender.sendMessage(plugin.prefixed("&ePlayers in games: &f" + gameManager.getPlayersInGamesCount()
+                + " &7| &eListeners: &f" + plugin.getListenerRegistry().getRegistered()));
+    }
+
     private int parseInt(String input, int def) {
         try {
             return Integer.parseInt(input);
@@ -356,12 +516,14 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             sender.sendMessage(plugin.prefixed("&e/dh create <id> [name]"));
             sender.sendMessage(plugin.prefixed("&e/dh delete <id>"));
             sender.sendMessage(plugin.prefixed("&e/dh list"));
-            sender.sendMessage(plugin.prefixed("&e/dh setloc <id> <" + String.join("|", LocationArgument.keys()) + ">"));
-            sender.sendMessage(plugin.prefixed("&e/dh tp <id> <" + String.join("|", LocationArgument.keys()) + ">"));
+            sender.sendMessage(plugin.prefixed("&e/dh setloc <id> <" + String.join("|", LocationArgument.keys()) + "> [add|clear]"));
+            sender.sendMessage(plugin.prefixed("&e/dh tp <id> <" + String.join("|", LocationArgument.keys()) + "> [point]"));
+            sender.sendMessage(plugin.prefixed("&e/dh region <id> <pos1|pos2|add|height|clear|info> &7- Arena bounds"));
             sender.sendMessage(plugin.prefixed("&e/dh settings <id> &7- Configure via GUI"));
             sender.sendMessage(plugin.prefixed("&e/dh end <id> &7- End an active game"));
             sender.sendMessage(plugin.prefixed("&e/dh setlobby &7- Set the main lobby"));
             sender.sendMessage(plugin.prefixed("&e/dh reload"));
+            sender.sendMessage(plugin.prefixed("&e/dh perf &7- Show load and refresh rate"));
         }
     }
 
@@ -370,12 +532,12 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
         if (args.length == 1) {
             List<String> base = new ArrayList<>(List.of("join", "leave", "list", "lobby"));
             if (sender.hasPermission("doorhunt.admin")) {
-                base.addAll(Arrays.asList("create", "delete", "setloc", "tp", "settings", "end", "setlobby", "reload"));
+                base.addAll(Arrays.asList("create", "delete", "setloc", "region", "tp", "settings", "end", "setlobby", "reload", "perf"));
             }
             return filter(base, args[0]);
         }
         if (args.length == 2) {
-            if (Set.of("join", "delete", "setloc", "tp", "settings", "end").contains(args[0].toLowerCase(Locale.ROOT))) {
+            if (Set.of("join", "delete", "setloc", "region", "tp", "settings", "end").contains(args[0].toLowerCase(Locale.ROOT))) {
                 return filter(gameManager.getArenas().stream().map(GameArena::getId).toList(), args[1]);
             }
         }
@@ -383,6 +545,12 @@ public class DoorHuntCommand implements CommandExecutor, TabCompleter {
             if (Set.of("setloc", "tp").contains(args[0].toLowerCase(Locale.ROOT))) {
                 return filter(LocationArgument.keys(), args[2]);
             }
+            if (args[0].equalsIgnoreCase("region")) {
+                return filter(List.of("pos1", "pos2", "add", "height", "clear", "info"), args[2]);
+            }
+        }
+        if (args.length == 4 && args[0].equalsIgnoreCase("setloc")) {
+            return filter(List.of("set", "add", "clear"), args[3]);
         }
         return Collections.emptyList();
     }
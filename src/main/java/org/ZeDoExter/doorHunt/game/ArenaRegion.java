@@ -0,0 +1,143 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Block bounds of an arena's play area: a box, or a polygon on the X/Z plane between two
+ * heights. Bounds are inclusive integers, and the polygon test only runs for blocks that
+ * already passed the box test.
+ */
+public final class ArenaRegion {
+    private final World world;
+    private final int[] polygonX;
+    private final int[] polygonZ;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    public ArenaRegion(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this(world, minX, minY, minZ, maxX, maxY, maxZ, null, null);
+    }
+
+    private ArenaRegion(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int[] polygonX, int[] polygonZ) {
+        this.world = world;
+        this.polygonX = polygonX;
+        this.polygonZ = polygonZ;
+        this.minX = Math.min(minX, maxX);
+        this.minY = Math.min(minY, maxY);
+        this.minZ = Math.min(minZ, maxZ);
+        this.maxX = Math.max(minX, maxX);
+        this.maxY = Math.max(minY, maxY);
+        this.maxZ = Math.max(minZ, maxZ);
+    }
+
+    /**
+     * Region from X/Z points between {@code minY} and {@code maxY}: two points are opposite
+     * corners of a box, three or more a polygon. Null with fewer than two points.
+     */
+    static ArenaRegion fromPoints(World world, List<int[]> points, int minY, int maxY) {
+        if (world == null || points.size() < 2) {
+            return null;
+        }
+        int floor = Math.max(minY, world.getMinHeight());
+        int ceiling = Math.min(maxY, world.getMaxHeight() - 1);
+        if (points.size() == 2) {
+            int[] first = points.get(0);
+            int[] second = points.get(1);
+            return new ArenaRegion(world, first[0], floor, first[1], second[0], ceiling, second[1]);
+        }
+        int[] xs = new int[points.size()];
+        int[] zs = new int[points.size()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = points.get(i)[0];
+            zs[i] = points.get(i)[1];
+        }
+        return new ArenaRegion(world, Arrays.stream(xs).min().orElse(0), floor, Arrays.stream(zs).min().orElse(0),
+                Arrays.stream(xs).max().orElse(0), ceiling, Arrays.stream(zs).max().orElse(0), xs, zs);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    public int getMinZ() {
+        return minZ;
+    }
+
+    public int getMaxX() {
+        return maxX;
+    }
+
+    public int getMaxY() {
+        return maxY;
+    }
+
+    public int getMaxZ() {
+        return maxZ;
+    }
+
+    public boolean isPolygon() {
+        return polygonX != null;
+    }
+
+    public boolean contains(int x, int y, int z) {
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+            return false;
+        }
+        return polygonX == null || insidePolygon(x, z);
+    }
+
+    // Even-odd ray cast from the block centre; vertices sit on block centres too. Blocks the
+    // outline passes through count as inside, so standing on the drawn edge is never an escape
+    private boolean insidePolygon(int x, int z) {
+        boolean inside = false;
+        for (int i = 0, j = polygonX.length - 1; i < polygonX.length; j = i++) {
+            int xi = polygonX[i];
+            int zi = polygonZ[i];
+            int xj = polygonX[j];
+            int zj = polygonZ[j];
+            if (onSegment(x, z, xi, zi, xj, zj)) {
+                return true;
+            }
+            if ((zi > z) != (zj > z) && x < (double) (xj - xi) * (z - zi) / (zj - zi) + xi) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    // Whether the segment comes within half a block of the block centre
+    private static boolean onSegment(int x, int z, int x1, int z1, int x2, int z2) {
+        double dx = x2 - x1;
+        double dz = z2 - z1;
+        double lengthSquared = dx * dx + dz * dz;
+        double t = lengthSquared == 0 ? 0 : ((x - x1) * dx + (z - z1) * dz) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double offsetX = x1 + t * dx - x;
+        double offsetZ = z1 + t * dz - z;
+        return offsetX * offsetX + offsetZ * offsetZ <= 0.25;
+    }
+
+    public boolean contains(World world, int x, int y, int z) {
+        return world == this.world && contains(x, y, z);
+    }
+
+    public boolean contains(Location location) {
+        return contains(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+}
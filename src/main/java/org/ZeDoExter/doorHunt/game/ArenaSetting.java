@@ -30,7 +30,15 @@ public enum ArenaSetting {
     LIVE_TIME("live", "Hunt Duration", "Enter the hunt duration in seconds", Material.DIAMOND_SWORD,
             GameArena::getLiveDuration,
             GameArena::setLiveDuration,
-            (arena, value) -> value >= 30);
+            (arena, value) -> value >= 30),
+    VIEW_DISTANCE("view-distance", "View Distance", "Enter the view distance in chunks (0 = server default)", Material.SPYGLASS,
+            GameArena::getViewDistance,
+            GameArena::setViewDistance,
+            (arena, value) -> value == 0 || (value >= 2 && value <= 32)),
+    SEND_DISTANCE("send-distance", "Send Distance", "Enter the chunk send distance (0 = server default)", Material.ENDER_EYE,
+            GameArena::getSendDistance,
+            GameArena::setSendDistance,
+            (arena, value) -> value == 0 || (value >= 2 && value <= 32));
 
     private final String key;
     private final String displayName;
@@ -0,0 +1,175 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Immutable heightmap of an arena's play area, sampled once from chunk snapshots.
+ * Lookups and random picks only read arrays, so they never touch the live world.
+ */
+public final class ArenaSurface {
+    private static final short NO_DATA = Short.MIN_VALUE;
+    private static final int NEAR_ATTEMPTS = 8;
+
+    private final World world;
+    private final int minX;
+    private final int minZ;
+    private final int width;
+    private final int depth;
+    // Y a player would stand at per column (x-major rows), NO_DATA if the chunk wasn't sampled
+    private final short[] heights;
+    // Column indexes whose ground is solid and safe to stand on
+    private final int[] safeColumns;
+
+    private ArenaSurface(World world, int minX, int minZ, int width, int depth, short[] heights, int[] safeColumns) {
+        this.world = world;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.width = width;
+        this.depth = depth;
+        this.heights = heights;
+        this.safeColumns = safeColumns;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getSafeCount() {
+        return safeColumns.length;
+    }
+
+    public boolean contains(int x, int z) {
+        return x >= minX && z >= minZ && x < minX + width && z < minZ + depth;
+    }
+
+    /**
+     * Standing Y for the column, or {@link Integer#MIN_VALUE} when it is outside the sample.
+     */
+    public int heightAt(int x, int z) {
+        if (!contains(x, z)) {
+            return Integer.MIN_VALUE;
+        }
+        short height = heights[(z - minZ) * width + (x - minX)];
+        return height == NO_DATA ? Integer.MIN_VALUE : height;
+    }
+
+    /**
+     * A random safe standing spot anywhere in the sample, or null if there is none.
+     */
+    public Location randomSafe() {
+        if (safeColumns.length == 0) {
+            return null;
+        }
+        return toLocation(safeColumns[ThreadLocalRandom.current().nextInt(safeColumns.length)]);
+    }
+
+    /**
+     * A random sampled column within {@code radius} blocks of {@code center}, or null
+     * after a few misses. Only the heightmap is read, so the column may be unsafe ground.
+     */
+    public Location randomNear(Location center, double radius) {
+        if (center.getWorld() != world) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < NEAR_ATTEMPTS; attempt++) {
+            int x = (int) Math.floor(center.getX() + random.nextDouble(-radius, radius));
+            int z = (int) Math.floor(center.getZ() + random.nextDouble(-radius, radius));
+            int y = heightAt(x, z);
+            if (y != Integer.MIN_VALUE) {
+                return new Location(world, x + 0.5, y, z + 0.5);
+            }
+        }
+        return null;
+    }
+
+    private Location toLocation(int column) {
+        int x = minX + column % width;
+        int z = minZ + column / width;
+        return new Location(world, x + 0.5, heights[column], z + 0.5);
+    }
+
+    /**
+     * Samples the arena region (at most {@code settings.surface-sampler.max-chunks} chunks
+     * around the hider spawn). {@code callback} runs on a worker thread with the finished
+     * surface, and is never called if the arena has no region yet.
+     */
+    static void sample(DoorHunt plugin, GameArena arena, Consumer<ArenaSurface> callback) {
+        ArenaRegion region = arena.getRegion();
+        if (region == null || region.getWorld() == null) {
+            return;
+        }
+        World world = region.getWorld();
+        int maxChunks = plugin.getConfig().getInt("settings.surface-sampler.max-chunks", 256);
+        RegionSnapshots.Area area = RegionSnapshots.Area.of(region, arena.getHiderSpawn(), maxChunks);
+        RegionSnapshots.capture(plugin, area, true, "arena '" + arena.getId() + "' surface", snapshots ->
+                callback.accept(build(world, region, area.minBlockX(), area.minBlockZ(), area.width(), area.depth(), snapshots)));
+    }
+
+    // Columns are scanned top-down from the region's ceiling (or the highest block below it),
+    // so a region kept under a roof samples the floor inside rather than the roof itself
+    private static ArenaSurface build(World world, ArenaRegion region, int minX, int minZ, int width, int depth,
+                                      Iterable<ChunkSnapshot> snapshots) {
+        int worldMaxY = world.getMaxHeight();
+        int floor = Math.max(region.getMinY(), world.getMinHeight());
+        short[] heights = new short[width * depth];
+        Arrays.fill(heights, NO_DATA);
+        int[] safe = new int[heights.length];
+        int safeCount = 0;
+        for (ChunkSnapshot snapshot : snapshots) {
+            int chunkX = snapshot.getX() << 4;
+            int chunkZ = snapshot.getZ() << 4;
+            for (int localZ = 0; localZ < 16; localZ++) {
+                for (int localX = 0; localX < 16; localX++) {
+                    if (!region.contains(chunkX + localX, floor, chunkZ + localZ)) {
+                        continue;
+                    }
+                    int ground = findGround(snapshot, localX, localZ, floor, Math.min(region.getMaxY() - 1,
+                            snapshot.getHighestBlockYAt(localX, localZ)), worldMaxY);
+                    if (ground == Integer.MIN_VALUE) {
+                        continue;
+                    }
+                    int column = (chunkZ - minZ + localZ) * width + chunkX - minX + localX;
+                    heights[column] = (short) (ground + 1);
+                    if (isSafeGround(snapshot.getBlockType(localX, ground, localZ))) {
+                        safe[safeCount++] = column;
+                    }
+                }
+            }
+        }
+        return new ArenaSurface(world, minX, minZ, width, depth, heights, Arrays.copyOf(safe, safeCount));
+    }
+
+    // Highest non-air block from top down to floor with two passable blocks above it
+    private static int findGround(ChunkSnapshot snapshot, int x, int z, int floor, int top, int worldMaxY) {
+        for (int y = top; y >= floor; y--) {
+            if (!snapshot.getBlockType(x, y, z).isAir() && passable(snapshot, x, y + 1, z, worldMaxY)
+                    && passable(snapshot, x, y + 2, z, worldMaxY)) {
+                return y;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    private static boolean passable(ChunkSnapshot snapshot, int x, int y, int z, int worldMaxY) {
+        return y >= worldMaxY || !snapshot.getBlockType(x, y, z).isSolid();
+    }
+
+    private static boolean isSafeGround(Material material) {
+        if (!material.isSolid()) {
+            return false;
+        }
+        return switch (material) {
+            case CACTUS, MAGMA_BLOCK, CAMPFIRE, SOUL_CAMPFIRE, POINTED_DRIPSTONE -> false;
+            default -> !material.name().endsWith("_DOOR") && !material.name().endsWith("_TRAPDOOR");
+        };
+    }
+}
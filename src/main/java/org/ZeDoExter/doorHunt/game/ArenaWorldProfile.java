@@ -0,0 +1,162 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.SpawnCategory;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * World settings applied to an arena's world when it is bound: game rules, spawn limits,
+ * fixed time and weather, and whether explosions may break blocks inside the arena.
+ * Profiles are opt-in, and the values they replace are kept in an {@link Original}.
+ */
+public final class ArenaWorldProfile {
+    private static final ArenaWorldProfile DISABLED = new ArenaWorldProfile(false, Map.of(), -1, -1L, false, false);
+
+    private final boolean enabled;
+    private final Map<GameRule<?>, Object> gameRules;
+    private final int spawnLimit;
+    private final long time;
+    private final boolean clearWeather;
+    private final boolean protectBlocks;
+
+    private ArenaWorldProfile(boolean enabled, Map<GameRule<?>, Object> gameRules, int spawnLimit, long time,
+                              boolean clearWeather, boolean protectBlocks) {
+        this.enabled = enabled;
+        this.gameRules = gameRules;
+        this.spawnLimit = spawnLimit;
+        this.time = time;
+        this.clearWeather = clearWeather;
+        this.protectBlocks = protectBlocks;
+    }
+
+    static ArenaWorldProfile disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Reads {@code settings.world-profile}, with any keys in the arena's own
+     * {@code world-profile} section taking precedence. Off unless {@code enabled} is set
+     * somewhere or {@code optedIn} is true.
+     */
+    static ArenaWorldProfile read(ConfigurationSection defaults, ConfigurationSection arena, boolean optedIn, Logger logger) {
+        boolean enabled = lookup(arena, defaults, "enabled") instanceof Boolean value ? value || optedIn : optedIn;
+        if (!enabled) {
+            return DISABLED;
+        }
+        Map<GameRule<?>, Object> rules = new LinkedHashMap<>();
+        readRules(defaults, rules, logger);
+        readRules(arena, rules, logger);
+        int spawnLimit = lookup(arena, defaults, "spawn-limit") instanceof Number value ? value.intValue() : -1;
+        long time = lookup(arena, defaults, "time") instanceof Number value ? value.longValue() : -1L;
+        boolean clearWeather = lookup(arena, defaults, "clear-weather") instanceof Boolean value && value;
+        boolean protectBlocks = lookup(arena, defaults, "protect-blocks") instanceof Boolean value && value;
+        return new ArenaWorldProfile(true, Map.copyOf(rules), spawnLimit, time, clearWeather, protectBlocks);
+    }
+
+    private static Object lookup(ConfigurationSection arena, ConfigurationSection defaults, String key) {
+        if (arena != null && arena.contains(key)) {
+            return arena.get(key);
+        }
+        return defaults != null ? defaults.get(key) : null;
+    }
+
+    private static void readRules(ConfigurationSection section, Map<GameRule<?>, Object> rules, Logger logger) {
+        ConfigurationSection node = section != null ? section.getConfigurationSection("game-rules") : null;
+        if (node == null) {
+            return;
+        }
+        for (String key : node.getKeys(false)) {
+            GameRule<?> rule = GameRule.getByName(key);
+            Object value = node.get(key);
+            if (rule == null) {
+                logger.warning("Unknown game rule '" + key + "' in " + node.getCurrentPath());
+            } else if (rule.getType() == Boolean.class && value instanceof Boolean) {
+                rules.put(rule, value);
+            } else if (rule.getType() == Integer.class && value instanceof Number number) {
+                rules.put(rule, number.intValue());
+            } else {
+                logger.warning("Game rule '" + key + "' in " + node.getCurrentPath() + " expects a " + rule.getType().getSimpleName());
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether explosions are kept from breaking blocks inside the arena region.
+     */
+    public boolean protectsBlocks() {
+        return enabled && protectBlocks;
+    }
+
+    /**
+     * Applies the profile, first recording in {@code original} every value it replaces that
+     * isn't recorded yet.
+     */
+    void apply(World world, Original original) {
+        if (!enabled) {
+            return;
+        }
+        for (Map.Entry<GameRule<?>, Object> entry : gameRules.entrySet()) {
+            Object previous = world.getGameRuleValue(entry.getKey());
+            if (previous != null) {
+                original.rules.putIfAbsent(entry.getKey(), previous);
+            }
+            setRule(world, entry.getKey(), entry.getValue());
+        }
+        if (spawnLimit >= 0) {
+            for (SpawnCategory category : SpawnCategory.values()) {
+                if (category != SpawnCategory.MISC) {
+                    original.spawnLimits.putIfAbsent(category, world.getSpawnLimit(category));
+                    world.setSpawnLimit(category, spawnLimit);
+                }
+            }
+        }
+        if (time >= 0) {
+            world.setTime(time);
+        }
+        if (clearWeather) {
+            original.weather = true;
+            world.setStorm(false);
+            world.setThundering(false);
+            world.setClearWeatherDuration(Integer.MAX_VALUE);
+        }
+    }
+
+    private static <T> void setRule(World world, GameRule<T> rule, Object value) {
+        world.setGameRule(rule, rule.getType().cast(value));
+    }
+
+    /**
+     * A world's values from before any profile changed them. The fixed time is not undone;
+     * the daylight cycle rule that froze it is.
+     */
+    static final class Original {
+        private final World world;
+        private final Map<GameRule<?>, Object> rules = new LinkedHashMap<>();
+        private final Map<SpawnCategory, Integer> spawnLimits = new EnumMap<>(SpawnCategory.class);
+        private boolean weather;
+
+        Original(World world) {
+            this.world = world;
+        }
+
+        void restore() {
+            for (Map.Entry<GameRule<?>, Object> entry : rules.entrySet()) {
+                setRule(world, entry.getKey(), entry.getValue());
+            }
+            spawnLimits.forEach(world::setSpawnLimit);
+            if (weather) {
+                world.setClearWeatherDuration(0);
+            }
+        }
+    }
+}
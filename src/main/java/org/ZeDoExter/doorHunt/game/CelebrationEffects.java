@@ -0,0 +1,154 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.util.LoadGovernor;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Client-side celebration bursts: particles drawn from precomputed point clouds and sent
+ * only to the given audience, so no Firework entities are spawned, ticked or tracked.
+ */
+final class CelebrationEffects {
+    private static final double[][] SPHERE = sphere(48);
+    private static final double[][] RING = ring(32);
+    private static final double[][] STAR = star(5, 6);
+    private static final double[][][] SHAPES = {SPHERE, RING, STAR};
+    private static final Sound[] SOUNDS = {
+            Sound.ENTITY_FIREWORK_ROCKET_BLAST,
+            Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST,
+            Sound.ENTITY_FIREWORK_ROCKET_TWINKLE
+    };
+    private static final int SEARCH_ATTEMPTS = 10;
+    private static final double SEARCH_RADIUS = 20.0;
+
+    private CelebrationEffects() {
+    }
+
+    /**
+     * Plays one burst near {@code anchor} for everyone in {@code audience}. Spots come from
+     * the sampled arena surface when there is one; otherwise candidates in unloaded chunks
+     * are skipped rather than loaded. The shape, the firework sparkle and the sound are
+     * each shed under their own {@link LoadGovernor.Cosmetic} kind.
+     */
+    static void burst(Player anchor, List<Player> audience, ArenaSurface surface, LoadGovernor governor) {
+        boolean shapes = governor.allow(LoadGovernor.Cosmetic.PARTICLES);
+        boolean sparkle = governor.allow(LoadGovernor.Cosmetic.FIREWORKS);
+        boolean sounds = governor.allow(LoadGovernor.Cosmetic.SOUNDS);
+        if (!shapes && !sparkle && !sounds) {
+            return;
+        }
+        Location base = anchor.getLocation();
+        Location center = surface != null ? fromSurface(surface, base) : null;
+        if (center == null) {
+            center = findSpot(base);
+        }
+        if (center == null) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[][] shape = SHAPES[random.nextInt(SHAPES.length)];
+        double scale = random.nextDouble(1.5, 3.0);
+        Particle.DustOptions primary = new Particle.DustOptions(Color.fromRGB(random.nextInt(0x1000000)), 1.6f);
+        Particle.DustOptions secondary = new Particle.DustOptions(Color.fromRGB(random.nextInt(0x1000000)), 1.2f);
+        Sound sound = SOUNDS[random.nextInt(SOUNDS.length)];
+        double cx = center.getX();
+        double cy = center.getY();
+        double cz = center.getZ();
+        for (Player viewer : audience) {
+            if (viewer.getWorld() != center.getWorld()) {
+                continue;
+            }
+            if (shapes) {
+                for (int i = 0; i < shape.length; i++) {
+                    double[] point = shape[i];
+                    viewer.spawnParticle(Particle.DUST, cx + point[0] * scale, cy + point[1] * scale, cz + point[2] * scale,
+                            1, 0, 0, 0, 0, (i & 1) == 0 ? primary : secondary);
+                }
+            }
+            if (sparkle) {
+                viewer.spawnParticle(Particle.FIREWORK, cx, cy, cz, 12, 0.3, 0.3, 0.3, 0.08);
+            }
+            if (sounds) {
+                viewer.playSound(center, sound, 1.0f, random.nextFloat(0.9f, 1.2f));
+            }
+        }
+    }
+
+    private static Location fromSurface(ArenaSurface surface, Location base) {
+        Location column = surface.randomNear(base, SEARCH_RADIUS);
+        if (column == null) {
+            return null;
+        }
+        int blockY = (int) Math.floor(Math.max(column.getY(), base.getY() + 1.0)) + ThreadLocalRandom.current().nextInt(4, 9);
+        if (blockY >= surface.getWorld().getMaxHeight()) {
+            return null;
+        }
+        column.setY(blockY + 0.5);
+        return column;
+    }
+
+    private static Location findSpot(Location base) {
+        World world = base.getWorld();
+        if (world == null) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < SEARCH_ATTEMPTS; attempt++) {
+            int blockX = (int) Math.floor(base.getX() + random.nextDouble(-SEARCH_RADIUS, SEARCH_RADIUS));
+            int blockZ = (int) Math.floor(base.getZ() + random.nextDouble(-SEARCH_RADIUS, SEARCH_RADIUS));
+            if (!world.isChunkLoaded(blockX >> 4, blockZ >> 4)) {
+                continue;
+            }
+            int highest = world.getHighestBlockYAt(blockX, blockZ);
+            int blockY = (int) Math.floor(Math.max(highest + 1.0, base.getY() + 1.0)) + random.nextInt(4, 9);
+            if (blockY >= world.getMaxHeight()) {
+                continue;
+            }
+            return new Location(world, blockX + 0.5, blockY + 0.5, blockZ + 0.5);
+        }
+        return null;
+    }
+
+    // Fibonacci sphere: evenly spread unit vectors
+    private static double[][] sphere(int count) {
+        double[][] points = new double[count][];
+        double golden = Math.PI * (3.0 - Math.sqrt(5.0));
+        for (int i = 0; i < count; i++) {
+            double y = 1.0 - (i / (double) (count - 1)) * 2.0;
+            double radius = Math.sqrt(1.0 - y * y);
+            double theta = golden * i;
+            points[i] = new double[]{Math.cos(theta) * radius, y, Math.sin(theta) * radius};
+        }
+        return points;
+    }
+
+    private static double[][] ring(int count) {
+        double[][] points = new double[count][];
+        for (int i = 0; i < count; i++) {
+            double angle = 2.0 * Math.PI * i / count;
+            points[i] = new double[]{Math.cos(angle), 0.0, Math.sin(angle)};
+        }
+        return points;
+    }
+
+    // Flat star made of straight spokes
+    private static double[][] star(int spokes, int steps) {
+        double[][] points = new double[spokes * steps][];
+        int index = 0;
+        for (int spoke = 0; spoke < spokes; spoke++) {
+            double angle = 2.0 * Math.PI * spoke / spokes;
+            for (int step = 1; step <= steps; step++) {
+                double distance = step / (double) steps;
+                points[index++] = new double[]{Math.cos(angle) * distance, Math.sin(angle) * distance, 0.0};
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,160 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.Bisected;
+import org.bukkit.block.data.type.Door;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-round door states for one instance. A shuffle locks or opens a random subset of the
+ * arena's doors and a restore puts them back as scanned; either way the block changes are
+ * spread over ticks, {@code settings.doors.per-tick} doors at a time.
+ */
+final class DoorController {
+    private final DoorHunt plugin;
+    private final Set<Long> locked = new HashSet<>();
+    private volatile DoorRegistry registry;
+    private BukkitTask task;
+    private boolean shuffled;
+
+    DoorController(DoorHunt plugin) {
+        this.plugin = plugin;
+    }
+
+    void setRegistry(DoorRegistry registry) {
+        this.registry = registry;
+    }
+
+    void shuffle() {
+        DoorRegistry registry = this.registry;
+        if (registry == null || registry.size() == 0) {
+            return;
+        }
+        double lockChance = plugin.getConfig().getDouble("settings.doors.lock-chance", 0.15);
+        double openChance = plugin.getConfig().getDouble("settings.doors.open-chance", 0.35);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        locked.clear();
+        BitSet open = new BitSet(registry.size());
+        for (int i = 0; i < registry.size(); i++) {
+            double roll = random.nextDouble();
+            if (roll < lockChance) {
+                locked.add(registry.position(i));
+            } else if (roll < lockChance + openChance) {
+                open.set(i);
+            }
+        }
+        shuffled = true;
+        apply(registry, open, false);
+    }
+
+    /**
+     * Unlocks every door and returns them to their scanned state.
+     */
+    void restore() {
+        locked.clear();
+        DoorRegistry registry = this.registry;
+        if (!shuffled || registry == null) {
+            cancel();
+            return;
+        }
+        shuffled = false;
+        BitSet open = new BitSet(registry.size());
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.wasOpen(i)) {
+                open.set(i);
+            }
+        }
+        apply(registry, open, true);
+    }
+
+    boolean isLocked(Block block) {
+        if (locked.isEmpty()) {
+            return false;
+        }
+        int y = block.getY();
+        if (block.getBlockData() instanceof Door door && door.getHalf() == Bisected.Half.TOP) {
+            y--;
+        }
+        return locked.contains(DoorRegistry.pack(block.getX(), y, block.getZ()));
+    }
+
+    // A shuffle leaves doors in unloaded chunks as they are; a restore loads those chunks
+    // first, so no door stays shuffled into the next scan
+    private void apply(DoorRegistry registry, BitSet open, boolean restoring) {
+        cancel();
+        World world = registry.getWorld();
+        int total = registry.size();
+        if (!plugin.isEnabled()) {
+            for (int i = 0; i < total; i++) {
+                long position = registry.position(i);
+                if (!setDoor(world, position, open.get(i)) && restoring) {
+                    world.getChunkAt(DoorRegistry.unpackX(position) >> 4, DoorRegistry.unpackZ(position) >> 4);
+                    setDoor(world, position, open.get(i));
+                }
+            }
+            return;
+        }
+        int perTick = Math.max(1, plugin.getConfig().getInt("settings.doors.per-tick", 32));
+        int[] cursor = {0};
+        task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int end = Math.min(total, cursor[0] + perTick);
+            for (int i = cursor[0]; i < end; i++) {
+                if (!setDoor(world, registry.position(i), open.get(i)) && restoring) {
+                    restoreLater(world, registry.position(i), open.get(i));
+                }
+            }
+            cursor[0] = end;
+            if (end >= total) {
+                cancel();
+            }
+        }, 1L, 1L);
+    }
+
+    // Paper completes the load on the main thread; a round that started meanwhile owns the door
+    private void restoreLater(World world, long position, boolean open) {
+        world.getChunkAtAsync(DoorRegistry.unpackX(position) >> 4, DoorRegistry.unpackZ(position) >> 4).thenAccept(chunk -> {
+            if (!shuffled) {
+                setDoor(world, position, open);
+            }
+        });
+    }
+
+    // Both halves are written without physics so a batch never cascades block updates.
+    // False when the chunk isn't loaded and nothing was written
+    private static boolean setDoor(World world, long position, boolean open) {
+        int x = DoorRegistry.unpackX(position);
+        int y = DoorRegistry.unpackY(position);
+        int z = DoorRegistry.unpackZ(position);
+        if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+            return false;
+        }
+        Block bottom = world.getBlockAt(x, y, z);
+        if (!(bottom.getBlockData() instanceof Door door) || door.isOpen() == open) {
+            return true;
+        }
+        door.setOpen(open);
+        bottom.setBlockData(door, false);
+        Block top = bottom.getRelative(BlockFace.UP);
+        if (top.getBlockData() instanceof Door upper) {
+            upper.setOpen(open);
+            top.setBlockData(upper, false);
+        }
+        return true;
+    }
+
+    void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.data.Bisected;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.Door;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Every door in an arena region, found once by scanning chunk snapshots off the main
+ * thread. Doors are stored as packed bottom-half positions plus their open state at scan
+ * time, which is what rounds restore afterwards.
+ */
+public final class DoorRegistry {
+    private final World world;
+    private final long[] positions;
+    private final BitSet originallyOpen;
+
+    private DoorRegistry(World world, long[] positions, BitSet originallyOpen) {
+        this.world = world;
+        this.positions = positions;
+        this.originallyOpen = originallyOpen;
+    }
+
+    /**
+     * Scans the arena region for doors; {@code callback} runs on a worker thread, and is
+     * never called unless the arena has a region set through {@code /dh region}.
+     */
+    static void scan(DoorHunt plugin, GameArena arena, Consumer<DoorRegistry> callback) {
+        ArenaRegion region = arena.getRegion();
+        if (!arena.hasRegionPoints() || region == null || region.getWorld() == null) {
+            return;
+        }
+        World world = region.getWorld();
+        int worldMinY = world.getMinHeight();
+        int minY = Math.max(region.getMinY(), worldMinY);
+        int maxY = Math.min(region.getMaxY(), world.getMaxHeight() - 2);
+        int maxChunks = plugin.getConfig().getInt("settings.doors.max-chunks", 256);
+        RegionSnapshots.Area area = RegionSnapshots.Area.of(region, arena.getHiderSpawn(), maxChunks);
+        RegionSnapshots.capture(plugin, area, false, "arena '" + arena.getId() + "' doors", snapshots ->
+                callback.accept(build(world, region, worldMinY, minY, maxY, snapshots)));
+    }
+
+    private static DoorRegistry build(World world, ArenaRegion region, int worldMinY, int minY, int maxY,
+                                      Collection<ChunkSnapshot> snapshots) {
+        long[] found = new long[64];
+        BitSet open = new BitSet();
+        int count = 0;
+        for (ChunkSnapshot snapshot : snapshots) {
+            int baseX = snapshot.getX() << 4;
+            int baseZ = snapshot.getZ() << 4;
+            for (int y = minY; y <= maxY; y++) {
+                if (snapshot.isSectionEmpty((y - worldMinY) >> 4)) {
+                    // Jump to the last block of this empty section
+                    y = ((((y - worldMinY) >> 4) + 1) << 4) + worldMinY - 1;
+                    continue;
+                }
+                for (int localZ = 0; localZ < 16; localZ++) {
+                    for (int localX = 0; localX < 16; localX++) {
+                        if (!Tag.DOORS.isTagged(snapshot.getBlockType(localX, y, localZ))) {
+                            continue;
+                        }
+                        BlockData data = snapshot.getBlockData(localX, y, localZ);
+                        if (!(data instanceof Door door) || door.getHalf() != Bisected.Half.BOTTOM
+                                || !region.contains(baseX + localX, y, baseZ + localZ)) {
+                            continue;
+                        }
+                        if (count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        if (door.isOpen()) {
+                            open.set(count);
+                        }
+                        found[count++] = pack(baseX + localX, y, baseZ + localZ);
+                    }
+                }
+            }
+        }
+        return new DoorRegistry(world, Arrays.copyOf(found, count), open);
+    }
+
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    long position(int index) {
+        return positions[index];
+    }
+
+    boolean wasOpen(int index) {
+        return originallyOpen.get(index);
+    }
+}
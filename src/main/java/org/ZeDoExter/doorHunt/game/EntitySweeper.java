@@ -0,0 +1,96 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.AreaEffectCloud;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ExperienceOrb;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Projectile;
+import org.bukkit.entity.TNTPrimed;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Removes round leftovers (drops, projectiles, grenades, orbs) from an arena region a few
+ * loaded chunks per tick, using each chunk's own entity list. Unloaded chunks are skipped.
+ */
+final class EntitySweeper {
+    private final DoorHunt plugin;
+    private BukkitTask task;
+
+    EntitySweeper(DoorHunt plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts sweeping {@code region}, replacing any sweep still running. {@code onFinish}
+     * receives the number of entities removed.
+     */
+    void start(ArenaRegion region, IntConsumer onFinish) {
+        cancel();
+        if (region == null || region.getWorld() == null || !plugin.isEnabled()) {
+            return;
+        }
+        World world = region.getWorld();
+        int chunksPerTick = Math.max(1, plugin.getConfig().getInt("settings.sweeper.chunks-per-tick", 4));
+        int minChunkX = region.getMinX() >> 4;
+        int minChunkZ = region.getMinZ() >> 4;
+        int spanX = (region.getMaxX() >> 4) - minChunkX + 1;
+        int total = spanX * ((region.getMaxZ() >> 4) - minChunkZ + 1);
+        int[] cursor = {0, 0};
+        task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int processed = 0;
+            while (cursor[0] < total && processed < chunksPerTick) {
+                int index = cursor[0]++;
+                int chunkX = minChunkX + index % spanX;
+                int chunkZ = minChunkZ + index / spanX;
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    continue;
+                }
+                cursor[1] += sweep(world.getChunkAt(chunkX, chunkZ), region);
+                processed++;
+            }
+            if (cursor[0] >= total) {
+                cancel();
+                onFinish.accept(cursor[1]);
+            }
+        }, 1L, 1L);
+    }
+
+    private int sweep(Chunk chunk, ArenaRegion region) {
+        int removed = 0;
+        for (Entity entity : chunk.getEntities()) {
+            if (!isLeftover(entity)) {
+                continue;
+            }
+            Location location = entity.getLocation();
+            if (region.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ())) {
+                entity.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isLeftover(Entity entity) {
+        return entity instanceof Item
+                || entity instanceof Projectile
+                || entity instanceof TNTPrimed
+                || entity instanceof ExperienceOrb
+                || entity instanceof FallingBlock
+                || entity instanceof AreaEffectCloud;
+    }
+
+    void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
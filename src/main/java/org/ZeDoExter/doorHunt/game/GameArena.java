@@ -1,6 +1,11 @@
 package org.ZeDoExter.doorHunt.game;
 
 import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class GameArena {
     private final String id;
@@ -11,9 +16,19 @@ public class GameArena {
     private int prepareDuration;
     private int hideDuration;
     private int liveDuration;
+    private int viewDistance;
+    private int sendDistance;
+    private ArenaWorldProfile worldProfile = ArenaWorldProfile.disabled();
+    private ArenaRegion region;
+    private World regionWorld;
+    private final List<int[]> regionPoints = new ArrayList<>();
+    // Box corners in fixed slots, so pos2 can be set before pos1
+    private final int[][] regionCorners = new int[2][];
+    private int regionMinY = Integer.MIN_VALUE;
+    private int regionMaxY = Integer.MAX_VALUE;
     private Location lobbyLocation;
-    private Location hiderSpawn;
-    private Location seekerWaitSpawn;
+    private final List<Location> hiderSpawns = new ArrayList<>();
+    private final List<Location> seekerWaitSpawns = new ArrayList<>();
 
     public GameArena(String id) {
         this.id = id;
@@ -86,6 +101,28 @@ public class GameArena {
         this.liveDuration = liveDuration;
     }
 
+    /**
+     * Per-player view distance (chunks) applied to participants; 0 keeps the server value.
+     */
+    public int getViewDistance() {
+        return viewDistance;
+    }
+
+    public void setViewDistance(int viewDistance) {
+        this.viewDistance = Math.max(0, viewDistance);
+    }
+
+    /**
+     * Per-player chunk send distance applied to participants; 0 keeps the server value.
+     */
+    public int getSendDistance() {
+        return sendDistance;
+    }
+
+    public void setSendDistance(int sendDistance) {
+        this.sendDistance = Math.max(0, sendDistance);
+    }
+
     public Location getLobbyLocation() {
         return lobbyLocation;
     }
@@ -94,23 +131,157 @@ public class GameArena {
         this.lobbyLocation = lobbyLocation;
     }
 
+    /**
+     * First point of the hider spawn group, or null if the group is empty.
+     */
     public Location getHiderSpawn() {
-        return hiderSpawn;
+        return hiderSpawns.isEmpty() ? null : hiderSpawns.get(0);
     }
 
+    /**
+     * Replaces the hider spawn group with a single point; null clears it.
+     */
     public void setHiderSpawn(Location hiderSpawn) {
-        this.hiderSpawn = hiderSpawn;
+        hiderSpawns.clear();
+        if (hiderSpawn != null) {
+            hiderSpawns.add(hiderSpawn);
+        }
+    }
+
+    public List<Location> getHiderSpawns() {
+        return Collections.unmodifiableList(hiderSpawns);
+    }
+
+    public void addHiderSpawn(Location location) {
+        hiderSpawns.add(location);
+    }
+
+    /**
+     * Hider spawn for the n-th player placed this round; points are handed out round-robin.
+     */
+    public Location getHiderSpawn(int index) {
+        return pick(hiderSpawns, index);
     }
 
     public Location getSeekerWaitSpawn() {
-        return seekerWaitSpawn;
+        return seekerWaitSpawns.isEmpty() ? null : seekerWaitSpawns.get(0);
     }
 
     public void setSeekerWaitSpawn(Location seekerWaitSpawn) {
-        this.seekerWaitSpawn = seekerWaitSpawn;
+        seekerWaitSpawns.clear();
+        if (seekerWaitSpawn != null) {
+            seekerWaitSpawns.add(seekerWaitSpawn);
+        }
+    }
+
+    public List<Location> getSeekerWaitSpawns() {
+        return Collections.unmodifiableList(seekerWaitSpawns);
+    }
+
+    public void addSeekerWaitSpawn(Location location) {
+        seekerWaitSpawns.add(location);
+    }
+
+    public Location getSeekerWaitSpawn(int index) {
+        return pick(seekerWaitSpawns, index);
+    }
+
+    private static Location pick(List<Location> group, int index) {
+        if (group.isEmpty()) {
+            return null;
+        }
+        return group.get(Math.floorMod(index, group.size())).clone();
+    }
+
+    public ArenaWorldProfile getWorldProfile() {
+        return worldProfile;
+    }
+
+    public void setWorldProfile(ArenaWorldProfile worldProfile) {
+        this.worldProfile = worldProfile;
+    }
+
+    /**
+     * Block bounds of the play area set through {@code /dh region}, or null if the arena has
+     * none. Features bound to the play area are skipped without one.
+     */
+    public ArenaRegion getRegion() {
+        return region;
+    }
+
+    public void setRegion(ArenaRegion region) {
+        this.region = region;
+    }
+
+    public boolean hasRegionPoints() {
+        return regionPoints.size() >= 2;
+    }
+
+    public World getRegionWorld() {
+        return regionWorld;
+    }
+
+    /**
+     * Configured region outline as {x, z} pairs; two points form a box, more a polygon.
+     */
+    public List<int[]> getRegionPoints() {
+        return Collections.unmodifiableList(regionPoints);
+    }
+
+    public void addRegionPoint(World world, int x, int z) {
+        if (regionWorld != world) {
+            regionPoints.clear();
+            regionWorld = world;
+        }
+        regionCorners[0] = null;
+        regionCorners[1] = null;
+        regionPoints.add(new int[]{x, z});
+    }
+
+    /**
+     * Sets one corner of a box region, dropping any polygon outline.
+     */
+    public void setRegionCorner(World world, int corner, int x, int z) {
+        if (regionWorld != world || regionPoints.size() > 2) {
+            regionCorners[0] = null;
+            regionCorners[1] = null;
+            regionWorld = world;
+        } else if (regionPoints.size() == 2) {
+            regionCorners[0] = regionPoints.get(0);
+            regionCorners[1] = regionPoints.get(1);
+        }
+        regionCorners[corner] = new int[]{x, z};
+        regionPoints.clear();
+        for (int[] point : regionCorners) {
+            if (point != null) {
+                regionPoints.add(point);
+            }
+        }
+    }
+
+    public void clearRegion() {
+        regionPoints.clear();
+        regionCorners[0] = null;
+        regionCorners[1] = null;
+        regionWorld = null;
+        regionMinY = Integer.MIN_VALUE;
+        regionMaxY = Integer.MAX_VALUE;
+    }
+
+    public int getRegionMinY() {
+        return regionMinY;
+    }
+
+    public int getRegionMaxY() {
+        return regionMaxY;
+    }
+
+    public void setRegionHeight(int minY, int maxY) {
+        this.regionMinY = Math.min(minY, maxY);
+        this.regionMaxY = Math.max(minY, maxY);
     }
 
     public boolean isConfigured() {
-        return lobbyLocation != null && hiderSpawn != null && seekerWaitSpawn != null;
+        return lobbyLocation != null && !hiderSpawns.isEmpty() && !seekerWaitSpawns.isEmpty();
     }
 }
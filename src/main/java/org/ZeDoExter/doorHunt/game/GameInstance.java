@@ -2,16 +2,16 @@ package org.ZeDoExter.doorHunt.game;
 
 import org.ZeDoExter.doorHunt.DoorHunt;
 import org.ZeDoExter.doorHunt.scoreboard.ScoreboardService;
+import org.ZeDoExter.doorHunt.session.PlayerSession;
+import org.ZeDoExter.doorHunt.util.LoadGovernor;
 import org.ZeDoExter.doorHunt.util.TabListService;
 import org.bukkit.Bukkit;
-import org.bukkit.Color;
-import org.bukkit.FireworkEffect;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.scheduler.BukkitTask;
@@ -31,7 +31,18 @@ public class GameInstance {
     private final Set<UUID> hiders = new HashSet<>();
     private final Map<UUID, Integer> seekerKills = new HashMap<>();
     private final Map<UUID, UUID> lastAttackers = new HashMap<>();
+    private final Map<UUID, UUID> pendingConversions = new LinkedHashMap<>();
     private final int endCooldownSeconds;
+    private final PhaseBossBar bossBar;
+    private final EntitySweeper sweeper;
+    private final DoorController doors;
+    private final SpatialGrid hiderGrid = new SpatialGrid();
+    private final SpatialGrid seekerGrid = new SpatialGrid();
+    private final Set<UUID> compassHolders = new HashSet<>();
+    private BukkitTask proximityTask;
+    private int compassSeconds;
+    private double compassRange;
+    private double heartbeatRadius;
     private GameState state = GameState.WAITING;
     private BukkitTask countdownTask;
     private BukkitTask prepareTask;
@@ -40,12 +51,21 @@ public class GameInstance {
     private BukkitTask scoreboardTask;
     private BukkitTask fireworksTask;
     private BukkitTask cooldownTask;
+    private BukkitTask conversionTask;
     private int countdownRemaining;
     private int prepareRemaining;
     private int hideRemaining;
     private int liveRemaining;
     private int cooldownRemaining;
     private boolean shuttingDown;
+    private volatile GameSnapshot snapshot;
+    private int sidebarSignature;
+    private int sidebarSeconds = -1;
+    private int lastSidebarTick;
+    private volatile ArenaSurface surface;
+    private volatile int scanGeneration;
+    private boolean scansRequested;
+    private int releaseCursor;
 
     public GameInstance(DoorHunt plugin, GameArena arena, GameManager gameManager, ScoreboardService scoreboardService) {
         this.plugin = plugin;
@@ -53,6 +73,10 @@ public class GameInstance {
         this.gameManager = gameManager;
         this.scoreboardService = scoreboardService;
         this.endCooldownSeconds = plugin.getConfig().getInt("settings.end-cooldown", 10);
+        this.bossBar = plugin.getConfig().getBoolean("settings.bossbar.enabled", true) ? new PhaseBossBar() : null;
+        this.snapshot = GameSnapshot.empty(arena);
+        this.sweeper = new EntitySweeper(plugin);
+        this.doors = new DoorController(plugin);
     }
 
     public GameArena getArena() {
@@ -87,9 +111,70 @@ public class GameInstance {
         return liveRemaining;
     }
 
+    /**
+     * The sampled arena surface, or null until the first sample finishes.
+     */
+    public ArenaSurface getSurface() {
+        return surface;
+    }
+
+    /**
+     * Whether a participant may not open this door this round.
+     */
+    public boolean isDoorLocked(Block block) {
+        return doors.isLocked(block);
+    }
+
+    /**
+     * Drops the sampled surface and door index after the arena changes; the next join
+     * scans again. Doors changed by a running round are put back first.
+     */
+    public void invalidateScans() {
+        scanGeneration++;
+        surface = null;
+        doors.restore();
+        doors.setRegistry(null);
+        scansRequested = false;
+    }
+
+    private void requestScans() {
+        if (scansRequested) {
+            return;
+        }
+        scansRequested = true;
+        int generation = scanGeneration;
+        ArenaSurface.sample(plugin, arena, sampled -> {
+            if (generation == scanGeneration) {
+                surface = sampled;
+            }
+        });
+        if (plugin.getConfig().getBoolean("settings.doors.enabled", true)) {
+            DoorRegistry.scan(plugin, arena, scanned -> {
+                if (generation == scanGeneration) {
+                    doors.setRegistry(scanned);
+                }
+            });
+        }
+    }
+
+    /**
+     * Latest immutable state, safe to read from any thread.
+     */
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    private void publishSnapshot() {
+        snapshot = new GameSnapshot(arena.getId(), arena.getDisplayName(), state, remainingSeconds(state), getTimeLabel(state),
+                arena.getMinPlayers(), arena.getMaxPlayers(),
+                Set.copyOf(players), Set.copyOf(seekers), Set.copyOf(hiders));
+    }
+
     private void changeState(GameState newState) {
         if (state != newState) {
             state = newState;
+            publishSnapshot();
+            gameManager.refreshListeners();
             gameManager.updateLobbyBoards();
         } else {
             state = newState;
@@ -104,7 +189,7 @@ public class GameInstance {
         return arena.getLobbyLocation();
     }
 
-    private void sendToLobby(Player player, String message) {
+    private void sendToLobby(Player player, boolean notify) {
         plugin.resetPlayer(player);
         Location lobby = resolveReturnLobby();
         if (lobby != null) {
@@ -112,41 +197,77 @@ public class GameInstance {
         } else {
             player.teleport(player.getWorld().getSpawnLocation());
         }
-        if (message != null && !message.isBlank()) {
-            player.sendMessage(plugin.prefixed(message));
+        if (notify) {
+            tell(player, "game.returned", Map.of(), "&aReturned to the lobby!");
         }
+        if (bossBar != null) {
+            bossBar.hide(player);
+        }
+        restoreViewDistance(player);
         gameManager.showLobbyBoard(player);
         plugin.getTabListService().clear(player);
     }
 
+    private void applyViewDistance(Player player) {
+        int view = arena.getViewDistance();
+        int send = arena.getSendDistance();
+        if (view <= 0 && send <= 0) {
+            return;
+        }
+        PlayerSession session = plugin.getSessionManager().get(player);
+        if (!session.hasViewDistanceOverride()) {
+            session.rememberViewDistance(player.getViewDistance(), player.getSendViewDistance());
+        }
+        if (view > 0) {
+            player.setViewDistance(view);
+        }
+        if (send > 0) {
+            player.setSendViewDistance(send);
+        }
+    }
+
+    private void restoreViewDistance(Player player) {
+        PlayerSession session = plugin.getSessionManager().find(player.getUniqueId());
+        if (session == null || !session.hasViewDistanceOverride()) {
+            return;
+        }
+        player.setViewDistance(session.getOriginalViewDistance());
+        player.setSendViewDistance(session.getOriginalSendDistance());
+        session.clearViewDistance();
+    }
+
     public void join(Player player) {
         if (!arena.isConfigured()) {
-            player.sendMessage(plugin.prefixed("&cThis arena isn't fully configured yet!"));
+            tell(player, "game.not-configured", Map.of(), "&cThis arena isn't fully configured yet!");
             return;
         }
         if (players.contains(player.getUniqueId())) {
-            player.sendMessage(plugin.prefixed("&eYou are already in this game."));
+            tell(player, "game.already-joined", Map.of(), "&eYou are already in this game.");
             return;
         }
         if (state != GameState.WAITING && state != GameState.COUNTDOWN) {
-            player.sendMessage(plugin.prefixed("&cThis round is already in progress. Please wait for the next one."));
+            tell(player, "game.in-progress", Map.of(), "&cThis round is already in progress. Please wait for the next one.");
             return;
         }
         if (players.size() >= arena.getMaxPlayers()) {
-            player.sendMessage(plugin.prefixed("&cThe game is already full."));
+            tell(player, "game.full", Map.of(), "&cThe game is already full.");
             return;
         }
 
+        requestScans();
         players.add(player.getUniqueId());
         hiders.add(player.getUniqueId());
         plugin.getTabListService().setRole(player, TabListService.Role.HIDER);
         gameManager.removeLobbyBoard(player);
         gameManager.setPlayerGame(player, this);
+        gameManager.refreshListeners();
         gameManager.updateLobbyBoards();
 
         preparePlayerForLobby(player);
+        applyViewDistance(player);
         player.teleport(arena.getLobbyLocation());
-        broadcast(plugin.prefixed("&a" + player.getName() + " &ejoined the game &7(" + players.size() + "/" + arena.getMaxPlayers() + ")"));
+        announce("game.join", Map.of("player", player.getName(), "count", String.valueOf(players.size()),
+                "max", String.valueOf(arena.getMaxPlayers())), "&a{player} &ejoined the game &7({count}/{max})");
 
         if (players.size() >= arena.getMinPlayers() && state == GameState.WAITING) {
             startCountdown();
@@ -162,15 +283,20 @@ public class GameInstance {
         hiders.remove(uuid);
         seekerKills.remove(uuid);
         lastAttackers.remove(uuid);
+        pendingConversions.remove(uuid);
+        hiderGrid.remove(uuid);
+        seekerGrid.remove(uuid);
+        compassHolders.remove(uuid);
         gameManager.setPlayerGame(player, null);
         plugin.getTabListService().clear(player);
-        sendToLobby(player, silent ? null : "&aReturned to the lobby!" );
+        sendToLobby(player, !silent);
         if (removed && !silent) {
-            broadcast(plugin.prefixed("&c" + player.getName() + " &eleft the game."));
+            announce("game.leave", Map.of("player", player.getName()), "&c{player} &eleft the game.");
         }
         checkCountdownCancel();
         checkWinConditions();
         updateScoreboards();
+        gameManager.refreshListeners();
         gameManager.updateLobbyBoards();
     }
 
@@ -178,30 +304,19 @@ public class GameInstance {
         plugin.resetPlayer(player);
         player.setGameMode(GameMode.ADVENTURE);
         player.getInventory().setHeldItemSlot(0);
-        player.getInventory().setItem(8, createReturnItem());
-    }
-
-    private ItemStack createReturnItem() {
-        ItemStack item = new ItemStack(Material.RED_BED);
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(plugin.getReturnItemName());
-            meta.addItemFlags(ItemFlag.values());
-            item.setItemMeta(meta);
-        }
-        return item;
+        player.getInventory().setItem(8, plugin.createReturnItem());
     }
 
     private void startCountdown() {
         changeState(GameState.COUNTDOWN);
         countdownRemaining = arena.getRecruitingCountdown();
-        broadcast(plugin.prefixed("&eEnough players! Starting in &c" + countdownRemaining + " &eseconds."));
+        announce("game.countdown-start", seconds(countdownRemaining), "&eEnough players! Starting in &c{seconds} &eseconds.");
         if (countdownTask != null) {
             countdownTask.cancel();
         }
         countdownTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             if (players.size() < arena.getMinPlayers()) {
-                broadcast(plugin.prefixed("&cNot enough players. Countdown cancelled."));
+                announce("game.countdown-cancelled", null, "&cNot enough players. Countdown cancelled.");
                 changeState(GameState.WAITING);
                 cancelCountdown();
                 updateScoreboards();
@@ -214,10 +329,12 @@ public class GameInstance {
                 beginGame();
             } else {
                 if (countdownRemaining <= 5 || countdownRemaining % 10 == 0) {
-                    broadcast(plugin.prefixed("&eStarting in &c" + countdownRemaining + " &eseconds."));
+                    if (bossBar == null && allow(LoadGovernor.Cosmetic.CHAT)) {
+                        announce("game.countdown", seconds(countdownRemaining), "&eStarting in &c{seconds} &eseconds.");
+                    }
                     playSound(Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.5f);
                 }
-                updateScoreboards();
+                onTimerTick();
             }
         }, 20L, 20L);
     }
@@ -247,14 +364,15 @@ public class GameInstance {
         }
         changeState(GameState.PREPARING);
         selectSeekers();
+        doors.shuffle();
         prepareRemaining = arena.getPrepareDuration();
         hideRemaining = arena.getHideDuration();
         liveRemaining = arena.getLiveDuration();
 
         if (prepareRemaining > 0) {
-            broadcast(plugin.prefixed("&eSeekers chosen! Starting in &c" + prepareRemaining + " &eseconds."));
+            announce("game.seekers-chosen-countdown", seconds(prepareRemaining), "&eSeekers chosen! Starting in &c{seconds} &eseconds.");
         } else {
-            broadcast(plugin.prefixed("&eSeekers chosen!"));
+            announce("game.seekers-chosen", null, "&eSeekers chosen!");
         }
         playSound(Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
 
@@ -272,10 +390,12 @@ public class GameInstance {
                 return;
             }
             if (prepareRemaining <= 5 || prepareRemaining % 10 == 0) {
-                broadcast(plugin.prefixed("&eStarting in &c" + prepareRemaining + " &eseconds."));
+                if (bossBar == null && allow(LoadGovernor.Cosmetic.CHAT)) {
+                    announce("game.countdown", seconds(prepareRemaining), "&eStarting in &c{seconds} &eseconds.");
+                }
                 playSound(Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.5f);
             }
-            updateScoreboards();
+            onTimerTick();
         }, 20L, 20L);
         updateScoreboards();
     }
@@ -284,21 +404,25 @@ public class GameInstance {
         cancelPrepareTask();
         changeState(GameState.HIDING);
 
+        // Spread players over the spawn groups in join order so nobody stacks on one block
+        int hiderIndex = 0;
+        int seekerIndex = 0;
         for (UUID uuid : players) {
             Player player = Bukkit.getPlayer(uuid);
             if (player == null) continue;
             plugin.resetPlayer(player);
             player.setGameMode(GameMode.SURVIVAL);
             if (seekers.contains(uuid)) {
-                player.teleport(arena.getSeekerWaitSpawn());
-                player.sendMessage(plugin.prefixed("&cYou are a seeker! Wait for the hiders to hide."));
+                player.teleport(arena.getSeekerWaitSpawn(seekerIndex++));
+                tell(player, "game.role-seeker", null, "&cYou are a seeker! Wait for the hiders to hide.");
             } else {
-                player.teleport(arena.getHiderSpawn());
-                player.sendMessage(plugin.prefixed("&aYou are a hider! You have " + Math.max(0, hideRemaining) + " seconds to run."));
+                player.teleport(hiderStart(hiderIndex++));
+                tell(player, "game.role-hider", seconds(Math.max(0, hideRemaining)), "&aYou are a hider! You have {seconds} seconds to run.");
             }
         }
 
-        broadcast(plugin.prefixed("&eNew round! &c" + seekers.size() + " &eseekers, &a" + hiders.size() + " &ahiders."));
+        announce("game.round-start", Map.of("seekers", String.valueOf(seekers.size()), "hiders", String.valueOf(hiders.size())),
+                "&eNew round! &c{seekers} &eseekers, &a{hiders} &ahiders.");
         playSound(Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
 
         if (hideTask != null) {
@@ -314,12 +438,25 @@ public class GameInstance {
                 hideTask.cancel();
                 hideTask = null;
                 startLivePhase();
+                return;
             }
-            updateScoreboards();
+            onTimerTick();
         }, 20L, 20L);
         updateScoreboards();
     }
 
+    // Random safe spot from the sampled surface when scattering is on, else the spawn group
+    private Location hiderStart(int index) {
+        ArenaSurface sampled = surface;
+        if (sampled != null && plugin.getConfig().getBoolean("settings.surface-sampler.scatter-hiders", false)) {
+            Location spot = sampled.randomSafe();
+            if (spot != null) {
+                return spot;
+            }
+        }
+        return arena.getHiderSpawn(index);
+    }
+
     private void selectSeekers() {
         seekers.clear();
         hiders.clear();
@@ -340,16 +477,20 @@ public class GameInstance {
 
     private void startLivePhase() {
         changeState(GameState.LIVE);
-        broadcast(plugin.prefixed("&cSeekers are on the hunt!"));
-        Location release = arena.getHiderSpawn();
-        for (UUID uuid : seekers) {
+        announce("game.hunt-start", null, "&cSeekers are on the hunt!");
+        releaseCursor = 0;
+        for (UUID uuid : players) {
+            if (!seekers.contains(uuid)) {
+                continue;
+            }
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
-                player.teleport(release);
-                player.sendMessage(plugin.prefixed("&cYou can start hunting!"));
+                player.teleport(arena.getHiderSpawn(releaseCursor++));
+                tell(player, "game.seeker-released", null, "&cYou can start hunting!");
                 plugin.getQualityArmoryHook().giveSeekerLoadout(player);
             }
         }
+        startProximityTask();
         if (liveTask != null) {
             liveTask.cancel();
         }
@@ -359,35 +500,33 @@ public class GameInstance {
                 liveTask.cancel();
                 liveTask = null;
                 endGame(false);
+                return;
             }
-            updateScoreboards();
+            onTimerTick();
         }, 20L, 20L);
         updateScoreboards();
     }
 
-    public void handleKill(Player killer, Player victim) {
+    /**
+     * Queues a hider → seeker conversion instead of running it inside the damage event.
+     * Every conversion queued during a tick is applied together by {@link #flushConversions()}
+     * at the start of the next tick.
+     */
+    public boolean queueKill(Player killer, Player victim) {
         if (state != GameState.LIVE && state != GameState.HIDING) {
-            return;
+            return false;
         }
-        if (!hiders.contains(victim.getUniqueId())) {
-            return;
+        UUID uuid = victim.getUniqueId();
+        if (!hiders.contains(uuid)) {
+            return false;
         }
-        hiders.remove(victim.getUniqueId());
-        seekers.add(victim.getUniqueId());
-        lastAttackers.remove(victim.getUniqueId());
-        seekerKills.merge(killer.getUniqueId(), 1, Integer::sum);
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("killer", killer.getName());
-        placeholders.put("victim", victim.getName());
-        placeholders.put("time", formatTimeRemaining());
-        placeholders.put("time_label", getTimeLabel());
-        String message = plugin.getLanguageManager().random("kill-messages", placeholders, "&c{killer} eliminated &a{victim}");
-        broadcast(message);
-        preparePlayerForSeeker(victim);
-        plugin.getTabListService().setRole(victim, TabListService.Role.SEEKER);
-        victim.teleport(arena.getHiderSpawn());
-        checkWinConditions();
-        updateScoreboards();
+        if (pendingConversions.containsKey(uuid)) {
+            return true;
+        }
+        lastAttackers.remove(uuid);
+        pendingConversions.put(uuid, killer.getUniqueId());
+        scheduleConversionFlush();
+        return true;
     }
 
     public void recordAttack(Player attacker, Player victim) {
@@ -396,40 +535,101 @@ public class GameInstance {
         }
         lastAttackers.put(victim.getUniqueId(), attacker.getUniqueId());
     }
-    public void handleExplosionKill(Player victim) {
+
+    public boolean queueExplosionKill(Player victim) {
         if (state != GameState.LIVE && state != GameState.HIDING) {
+            return false;
+        }
+        UUID uuid = victim.getUniqueId();
+        if (!hiders.contains(uuid)) {
+            return false;
+        }
+        if (pendingConversions.containsKey(uuid)) {
+            return true;
+        }
+        UUID killer = lastAttackers.remove(uuid);
+        if (killer != null && !seekers.contains(killer)) {
+            killer = null;
+        }
+        pendingConversions.put(uuid, killer);
+        scheduleConversionFlush();
+        return true;
+    }
+
+    public boolean isPendingConversion(Player player) {
+        return pendingConversions.containsKey(player.getUniqueId());
+    }
+
+    // Bukkit has no end-of-tick hook; runTask fires at the start of the next tick, before any
+    // entity ticks, so the batch still sees every kill of this tick and lands within 50 ms
+    private void scheduleConversionFlush() {
+        if (conversionTask == null) {
+            conversionTask = Bukkit.getScheduler().runTask(plugin, this::flushConversions);
+        }
+    }
+
+    private void cancelConversions() {
+        if (conversionTask != null) {
+            conversionTask.cancel();
+            conversionTask = null;
+        }
+        pendingConversions.clear();
+    }
+
+    private void flushConversions() {
+        conversionTask = null;
+        if (pendingConversions.isEmpty()) {
             return;
         }
-        if (!hiders.contains(victim.getUniqueId())) {
+        List<Map.Entry<UUID, UUID>> batch = new ArrayList<>(pendingConversions.entrySet());
+        pendingConversions.clear();
+        if (state != GameState.LIVE && state != GameState.HIDING) {
             return;
         }
-        UUID last = lastAttackers.remove(victim.getUniqueId());
-        if (last != null) {
-            Player killer = Bukkit.getPlayer(last);
-            if (killer != null && isSeeker(killer)) {
-                handleKill(killer, victim);
-                return;
+        boolean converted = false;
+        for (Map.Entry<UUID, UUID> entry : batch) {
+            Player victim = Bukkit.getPlayer(entry.getKey());
+            if (victim == null || !hiders.contains(victim.getUniqueId())) {
+                continue;
             }
+            Player killer = entry.getValue() != null ? Bukkit.getPlayer(entry.getValue()) : null;
+            convertToSeeker(victim, killer);
+            converted = true;
+        }
+        if (converted) {
+            checkWinConditions();
+            updateScoreboards();
         }
+    }
+
+    private void convertToSeeker(Player victim, Player killer) {
         hiders.remove(victim.getUniqueId());
         seekers.add(victim.getUniqueId());
+        lastAttackers.remove(victim.getUniqueId());
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("victim", victim.getName());
         placeholders.put("time", formatTimeRemaining());
         placeholders.put("time_label", getTimeLabel());
-        String message = plugin.getLanguageManager().random("death-messages", placeholders, "&c{victim} was blown up! &7({time} left)");
-        broadcast(message);
+        if (killer != null) {
+            seekerKills.merge(killer.getUniqueId(), 1, Integer::sum);
+            placeholders.put("killer", killer.getName());
+            plugin.getLanguageManager().broadcastRandom(onlinePlayers(), "kill-messages", placeholders, "&c{killer} eliminated &a{victim}");
+        } else {
+            plugin.getLanguageManager().broadcastRandom(onlinePlayers(), "death-messages", placeholders, "&c{victim} was blown up! &7({time} left)");
+        }
         preparePlayerForSeeker(victim);
         plugin.getTabListService().setRole(victim, TabListService.Role.SEEKER);
-        victim.teleport(arena.getHiderSpawn());
-        checkWinConditions();
-        updateScoreboards();
+        victim.teleport(arena.getHiderSpawn(releaseCursor++));
+        hiderGrid.remove(victim.getUniqueId());
+        if (state == GameState.LIVE) {
+            seekerGrid.update(victim.getUniqueId(), victim.getLocation());
+        }
     }
 
     private void preparePlayerForSeeker(Player player) {
         plugin.resetPlayer(player);
         player.setGameMode(GameMode.SURVIVAL);
-        player.sendMessage(plugin.prefixed("&cYou are now a seeker!"));
+        tell(player, "game.converted", null, "&cYou are now a seeker!");
         plugin.getQualityArmoryHook().giveSeekerLoadout(player);
     }
 
@@ -474,6 +674,8 @@ public class GameInstance {
             return;
         }
         cancelCooldownTask();
+        cancelConversions();
+        cancelProximityTask();
         cooldownRemaining = endCooldownSeconds;
         changeState(GameState.ENDING);
         cancelPrepareTask();
@@ -491,32 +693,30 @@ public class GameInstance {
         }
 
         if (seekersWin) {
-            List<String> topSeekers = seekerKills.entrySet().stream()
+            List<Map.Entry<UUID, Integer>> topSeekers = seekerKills.entrySet().stream()
                     .sorted(Map.Entry.<UUID, Integer>comparingByValue().reversed())
-                    .map(entry -> {
-                        Player player = Bukkit.getPlayer(entry.getKey());
-                        String name = player != null ? player.getName() : Bukkit.getOfflinePlayer(entry.getKey()).getName();
-                        int kills = entry.getValue();
-                        String label = kills == 1 ? " kill" : " kills";
-                        return plugin.prefixed("&c" + name + " &7- &e" + kills + label);
-                    })
                     .collect(Collectors.toList());
-            broadcast(plugin.prefixed("&cSeekers win!"));
+            announce("game.seekers-win", null, "&cSeekers win!");
             if (!topSeekers.isEmpty()) {
-                broadcast(plugin.prefixed("&7Top seekers:"));
-                topSeekers.forEach(this::broadcast);
+                announce("game.top-seekers", null, "&7Top seekers:");
+                for (Map.Entry<UUID, Integer> entry : topSeekers) {
+                    Map<String, String> placeholders = Map.of("player", plugin.getNameCache().getName(entry.getKey(), "Unknown"),
+                            "kills", String.valueOf(entry.getValue()));
+                    if (entry.getValue() == 1) {
+                        announce("game.top-seeker-single", placeholders, "&c{player} &7- &e{kills} kill");
+                    } else {
+                        announce("game.top-seeker", placeholders, "&c{player} &7- &e{kills} kills");
+                    }
+                }
             }
         } else {
             List<String> survivors = hiders.stream()
-                    .map(uuid -> {
-                        Player player = Bukkit.getPlayer(uuid);
-                        return player != null ? player.getName() : Bukkit.getOfflinePlayer(uuid).getName();
-                    })
+                    .map(plugin.getNameCache()::getName)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
-            broadcast(plugin.prefixed("&aHiders win!"));
+            announce("game.hiders-win", null, "&aHiders win!");
             if (!survivors.isEmpty()) {
-                broadcast(plugin.prefixed("&7Survivors: &a" + String.join(" &7, &a", survivors)));
+                announce("game.survivors", Map.of("players", String.join(" &7, &a", survivors)), "&7Survivors: &a{players}");
             }
         }
 
@@ -525,6 +725,7 @@ public class GameInstance {
 
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
             changeState(GameState.COOLDOWN);
+            sweepLeftovers();
             updateScoreboards();
             if (players.isEmpty()) {
                 resetToLobby();
@@ -535,7 +736,7 @@ public class GameInstance {
                 if (player != null) {
                     plugin.resetPlayer(player);
                     scoreboardService.clear(player);
-                    player.sendMessage(plugin.prefixed("&eReturning to the lobby in &c" + cooldownRemaining + " &eseconds."));
+                    tell(player, "game.returning", seconds(cooldownRemaining), "&eReturning to the lobby in &c{seconds} &eseconds.");
                 }
             }
             if (cooldownRemaining <= 0) {
@@ -550,95 +751,114 @@ public class GameInstance {
                     updateScoreboards();
                     resetToLobby();
                 } else {
-                    updateScoreboards();
+                    onTimerTick();
                 }
             }, 20L, 20L);
         }, 20L);
     }
 
-    private void launchCelebrationFireworks() {
-        cancelFireworksTask();
-        fireworksTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (players.isEmpty()) {
-                cancelFireworksTask();
-                return;
-            }
-            List<Player> online = players.stream()
-                    .map(Bukkit::getPlayer)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-            if (online.isEmpty()) {
-                cancelFireworksTask();
-                return;
-            }
-            Player target = online.get(ThreadLocalRandom.current().nextInt(online.size()));
-            spawnRandomFirework(target);
-        }, 0L, 20L);
-        Bukkit.getScheduler().runTaskLater(plugin, this::cancelFireworksTask, Math.max(40L, endCooldownSeconds * 20L));
+    /**
+     * Moves a live participant between grid cells. Called for block-changing moves and teleports.
+     */
+    public void trackMovement(Player player, Location to) {
+        if (state != GameState.LIVE) {
+            return;
+        }
+        UUID uuid = player.getUniqueId();
+        if (hiders.contains(uuid)) {
+            hiderGrid.update(uuid, to);
+        } else if (seekers.contains(uuid)) {
+            seekerGrid.update(uuid, to);
+        }
     }
 
-    private void spawnRandomFirework(Player player) {
-        Location base = player.getLocation();
-        if (base.getWorld() == null) {
+    private void startProximityTask() {
+        cancelProximityTask();
+        if (!plugin.getConfig().getBoolean("settings.proximity.enabled", true)) {
             return;
         }
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-        for (int attempt = 0; attempt < 10; attempt++) {
-            double offsetX = random.nextDouble(-20.0, 20.0);
-            double offsetZ = random.nextDouble(-20.0, 20.0);
-            double targetX = base.getX() + offsetX;
-            double targetZ = base.getZ() + offsetZ;
-            int blockX = (int) Math.floor(targetX);
-            int blockZ = (int) Math.floor(targetZ);
-            int highest = base.getWorld().getHighestBlockYAt(blockX, blockZ);
-            double desiredY = Math.max(highest + 1.0, base.getY() + 1.0);
-            int blockY = (int) Math.floor(desiredY);
-            if (blockY >= base.getWorld().getMaxHeight()) {
-                continue;
-            }
-            if (!base.getWorld().getBlockAt(blockX, blockY, blockZ).getType().isAir()) {
-                continue;
+        compassSeconds = plugin.getConfig().getInt("settings.proximity.compass-seconds", 60);
+        compassRange = Math.max(8.0, plugin.getConfig().getDouble("settings.proximity.compass-range", 96.0));
+        heartbeatRadius = plugin.getConfig().getDouble("settings.proximity.heartbeat-radius", 12.0);
+        for (UUID uuid : players) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                (hiders.contains(uuid) ? hiderGrid : seekerGrid).update(uuid, player.getLocation());
             }
-            Location spawn = new Location(base.getWorld(), blockX + 0.5, blockY + 0.5, blockZ + 0.5);
-            spawnFireworkAt(spawn, random);
-            return;
         }
+        long interval = Math.max(1L, plugin.getConfig().getLong("settings.proximity.interval", 20L));
+        proximityTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateProximityCues, interval, interval);
     }
 
-    private void spawnFireworkAt(Location location, ThreadLocalRandom random) {
-        location.getWorld().spawn(location, org.bukkit.entity.Firework.class, firework -> {
-            var meta = firework.getFireworkMeta();
-            meta.clearEffects();
-            meta.addEffect(buildRandomEffect(random));
-            meta.setPower(random.nextInt(1, 3));
-            firework.setFireworkMeta(meta);
-        });
+    private void updateProximityCues() {
+        if (liveRemaining <= compassSeconds && !hiderGrid.isEmpty()) {
+            for (UUID uuid : seekers) {
+                Player seeker = Bukkit.getPlayer(uuid);
+                if (seeker == null) {
+                    continue;
+                }
+                if (compassHolders.add(uuid)) {
+                    seeker.getInventory().addItem(createTrackerCompass());
+                    tell(seeker, "game.compass", null, "&cYour compass now points to the nearest hider!");
+                }
+                Player target = hiderGrid.nearest(seeker.getLocation(), compassRange);
+                if (target != null) {
+                    seeker.setCompassTarget(target.getLocation());
+                }
+            }
+        }
+        if (heartbeatRadius > 0 && !seekerGrid.isEmpty() && allow(LoadGovernor.Cosmetic.SOUNDS)) {
+            for (UUID uuid : hiders) {
+                Player hider = Bukkit.getPlayer(uuid);
+                if (hider != null && seekerGrid.anyWithin(hider.getLocation(), heartbeatRadius) != null) {
+                    hider.playSound(hider.getLocation(), Sound.ENTITY_WARDEN_HEARTBEAT, 1.0f, 1.0f);
+                }
+            }
+        }
     }
 
-    private FireworkEffect buildRandomEffect(ThreadLocalRandom random) {
-        FireworkEffect.Type[] types = FireworkEffect.Type.values();
-        FireworkEffect.Builder builder = FireworkEffect.builder()
-                .with(types[random.nextInt(types.length)])
-                .withColor(randomColors(random));
-        if (random.nextBoolean()) {
-            builder.withFade(randomColors(random));
-        }
-        if (random.nextBoolean()) {
-            builder.withFlicker();
+    private ItemStack createTrackerCompass() {
+        ItemStack compass = new ItemStack(Material.COMPASS);
+        ItemMeta meta = compass.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(plugin.color("&cHider Tracker"));
+            compass.setItemMeta(meta);
         }
-        if (random.nextBoolean()) {
-            builder.withTrail();
+        return compass;
+    }
+
+    private void cancelProximityTask() {
+        if (proximityTask != null) {
+            proximityTask.cancel();
+            proximityTask = null;
         }
-        return builder.build();
+        hiderGrid.clear();
+        seekerGrid.clear();
+        compassHolders.clear();
     }
-    private List<Color> randomColors(ThreadLocalRandom random) {
-        int amount = random.nextInt(1, 4);
-        List<Color> colors = new ArrayList<>(amount);
-        for (int i = 0; i < amount; i++) {
-            colors.add(Color.fromRGB(random.nextInt(0x1000000)));
+
+    private void sweepLeftovers() {
+        if (!plugin.getConfig().getBoolean("settings.sweeper.enabled", true) || !arena.hasRegionPoints()) {
+            return;
         }
-        return colors;
+        sweeper.start(arena.getRegion(), removed ->
+                plugin.getLogger().info("Swept " + removed + " leftover entities from arena '" + arena.getId() + "'."));
     }
+
+    private void launchCelebrationFireworks() {
+        cancelFireworksTask();
+        fireworksTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            List<Player> online = onlinePlayers();
+            if (online.isEmpty()) {
+                cancelFireworksTask();
+                return;
+            }
+            Player target = online.get(ThreadLocalRandom.current().nextInt(online.size()));
+            CelebrationEffects.burst(target, online, surface, plugin.getLoadGovernor());
+        }, 0L, 20L);
+        Bukkit.getScheduler().runTaskLater(plugin, this::cancelFireworksTask, Math.max(40L, endCooldownSeconds * 20L));
+    }
+
     private void cancelFireworksTask() {
         if (fireworksTask != null) {
             fireworksTask.cancel();
@@ -656,11 +876,13 @@ public class GameInstance {
         }
         cancelFireworksTask();
         cancelCooldownTask();
+        cancelProximityTask();
+        doors.restore();
         for (UUID uuid : new ArrayList<>(players)) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 gameManager.setPlayerGame(player, null);
-                sendToLobby(player, "&aReturned to the lobby!");
+                sendToLobby(player, true);
             } else {
                 gameManager.clearPlayer(uuid);
                 plugin.getTabListService().clear(uuid);
@@ -671,10 +893,16 @@ public class GameInstance {
         hiders.clear();
         seekerKills.clear();
         lastAttackers.clear();
+        cancelConversions();
         countdownRemaining = 0;
         hideRemaining = 0;
         liveRemaining = 0;
         cooldownRemaining = 0;
+        if (bossBar != null) {
+            bossBar.hideAll();
+        }
+        publishSnapshot();
+        gameManager.refreshListeners();
         gameManager.updateLobbyBoards();
     }
 
@@ -682,7 +910,7 @@ public class GameInstance {
         if (players.isEmpty()) {
             return;
         }
-        broadcast(plugin.prefixed("&cThis round was ended by a moderator."));
+        announce("game.force-end", null, "&cThis round was ended by a moderator.");
         cancelPrepareTask();
         if (hideTask != null) {
             hideTask.cancel();
@@ -713,6 +941,7 @@ public class GameInstance {
 
     public void shutdown() {
         shuttingDown = true;
+        sweeper.cancel();
         if (countdownTask != null) {
             countdownTask.cancel();
         }
@@ -728,11 +957,13 @@ public class GameInstance {
         }
         cancelFireworksTask();
         cancelCooldownTask();
+        cancelProximityTask();
+        doors.restore();
         for (UUID uuid : new ArrayList<>(players)) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
                 gameManager.setPlayerGame(player, null);
-                sendToLobby(player, null);
+                sendToLobby(player, false);
             } else {
                 gameManager.clearPlayer(uuid);
             }
@@ -742,21 +973,85 @@ public class GameInstance {
         hiders.clear();
         seekerKills.clear();
         lastAttackers.clear();
+        cancelConversions();
+        if (bossBar != null) {
+            bossBar.hideAll();
+        }
+        publishSnapshot();
         gameManager.updateLobbyBoards();
     }
 
+    // Runs every tick so any refresh interval is honoured exactly; refreshSidebar returns
+    // after one subtraction until the interval has passed
     private void ensureScoreboardTask() {
         if (scoreboardTask == null) {
-            scoreboardTask = Bukkit.getScheduler().runTaskTimer(plugin, this::updateScoreboards, 0L, 20L);
+            scoreboardTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshSidebar, 0L, 1L);
+        }
+    }
+
+    /**
+     * Called once per second by the phase timers: the boss bar carries the countdown, and
+     * the sidebar is only rebuilt when something it shows has changed.
+     */
+    private void onTimerTick() {
+        publishSnapshot();
+        refreshBossBar();
+        refreshSidebar();
+    }
+
+    private void refreshBossBar() {
+        if (bossBar == null) {
+            return;
+        }
+        if (state == GameState.WAITING) {
+            bossBar.hideAll();
+            return;
+        }
+        for (Player player : onlinePlayers()) {
+            bossBar.show(player);
+        }
+        bossBar.update(snapshot, phaseLength(state));
+    }
+
+    private void refreshSidebar() {
+        int elapsed = Bukkit.getCurrentTick() - lastSidebarTick;
+        if (elapsed < plugin.getLoadGovernor().getRefreshInterval()) {
+            return;
+        }
+        boolean changed = sidebarSignature != sidebarSignature();
+        boolean timeChanged = sidebarSeconds != remainingSeconds(state) && scoreboardService.usesToken(state, "time");
+        if (changed || timeChanged || elapsed >= scoreboardService.getPlaceholderRefreshSeconds() * 20) {
+            updateScoreboards();
         }
     }
 
+    private int sidebarSignature() {
+        return Objects.hash(state, players.size(), seekers.size(), hiders.size());
+    }
+
+    private int phaseLength(GameState state) {
+        return switch (state) {
+            case COUNTDOWN -> arena.getRecruitingCountdown();
+            case PREPARING -> arena.getPrepareDuration();
+            case HIDING -> arena.getHideDuration();
+            case LIVE -> arena.getLiveDuration();
+            case ENDING, COOLDOWN -> endCooldownSeconds;
+            default -> 0;
+        };
+    }
+
     public void updateScoreboards() {
+        publishSnapshot();
+        refreshBossBar();
+        sidebarSignature = sidebarSignature();
+        sidebarSeconds = remainingSeconds(state);
+        lastSidebarTick = Bukkit.getCurrentTick();
         if (players.isEmpty()) {
             if (scoreboardTask != null) {
                 scoreboardTask.cancel();
                 scoreboardTask = null;
             }
+            scoreboardService.release(this);
             return;
         }
         Map<String, String> placeholders = new HashMap<>();
@@ -779,8 +1074,8 @@ public class GameInstance {
         return formatTimeRemaining(state);
     }
 
-    private String formatTimeRemaining(GameState state) {
-        int seconds = switch (state) {
+    private int remainingSeconds(GameState state) {
+        return switch (state) {
             case COUNTDOWN -> countdownRemaining;
             case PREPARING -> prepareRemaining;
             case HIDING -> hideRemaining;
@@ -788,6 +1083,10 @@ public class GameInstance {
             case ENDING, COOLDOWN -> Math.max(0, cooldownRemaining);
             default -> 0;
         };
+    }
+
+    private String formatTimeRemaining(GameState state) {
+        int seconds = remainingSeconds(state);
         int minutes = seconds / 60;
         int sec = seconds % 60;
         return String.format("%02d:%02d", minutes, sec);
@@ -813,20 +1112,42 @@ public class GameInstance {
         if (state == GameState.COUNTDOWN && players.size() < arena.getMinPlayers()) {
             changeState(GameState.WAITING);
             cancelCountdown();
-            broadcast(plugin.prefixed("&cNot enough players. Countdown cancelled."));
+            announce("game.countdown-cancelled", null, "&cNot enough players. Countdown cancelled.");
         }
     }
 
-    private void broadcast(String message) {
+    // Rendered once per locale in the audience; see LanguageManager#broadcastFormat
+    private void announce(String path, Map<String, String> placeholders, String fallback) {
+        plugin.getLanguageManager().broadcastFormat(onlinePlayers(), path, placeholders, fallback);
+    }
+
+    private void tell(Player player, String path, Map<String, String> placeholders, String fallback) {
+        player.sendMessage(plugin.getLanguageManager().format(player, path, placeholders, fallback));
+    }
+
+    private static Map<String, String> seconds(int seconds) {
+        return Map.of("seconds", String.valueOf(seconds));
+    }
+
+    private List<Player> onlinePlayers() {
+        List<Player> online = new ArrayList<>(players.size());
         for (UUID uuid : players) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
-                player.sendMessage(message);
+                online.add(player);
             }
         }
+        return online;
+    }
+
+    private boolean allow(LoadGovernor.Cosmetic kind) {
+        return plugin.getLoadGovernor().allow(kind);
     }
 
     private void playSound(Sound sound, float volume, float pitch) {
+        if (!allow(LoadGovernor.Cosmetic.SOUNDS)) {
+            return;
+        }
         for (UUID uuid : players) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
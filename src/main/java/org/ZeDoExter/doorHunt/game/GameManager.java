@@ -1,15 +1,21 @@
 package org.ZeDoExter.doorHunt.game;
 
 import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.listener.ListenerRegistry;
 import org.ZeDoExter.doorHunt.scoreboard.ScoreboardService;
+import org.ZeDoExter.doorHunt.session.PlayerSession;
+import org.ZeDoExter.doorHunt.session.SessionManager;
 import org.ZeDoExter.doorHunt.util.LocationUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
 import org.bukkit.inventory.Inventory;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,14 +24,21 @@ public class GameManager {
     private final DoorHunt plugin;
     private final Map<String, GameArena> arenas = new LinkedHashMap<>();
     private final Map<String, GameInstance> instances = new ConcurrentHashMap<>();
-    private final Map<UUID, GameInstance> playerGames = new ConcurrentHashMap<>();
+    private volatile Map<String, GameArena> arenaView = Map.of();
     private final ScoreboardService scoreboardService;
-    private final Map<UUID, GameArena> settingsViewers = new ConcurrentHashMap<>();
-    private final Map<UUID, SettingsPrompt> pendingPrompts = new ConcurrentHashMap<>();
-
-    public GameManager(DoorHunt plugin, ScoreboardService scoreboardService) {
+    private final SessionManager sessions;
+    private World[] arenaWorlds = new World[0];
+    private ArenaRegion[] protectedRegions = new ArenaRegion[0];
+    private final Map<World, ArenaWorldProfile.Original> worldOriginals = new HashMap<>();
+    private int playersInGames;
+    private BukkitTask lobbyBoardTask;
+    private final PlayerVisibility visibility;
+
+    public GameManager(DoorHunt plugin, ScoreboardService scoreboardService, SessionManager sessions) {
         this.plugin = plugin;
         this.scoreboardService = scoreboardService;
+        this.sessions = sessions;
+        this.visibility = new PlayerVisibility(plugin, sessions);
     }
 
     public void loadArenas() {
@@ -33,10 +46,13 @@ public class GameManager {
             instance.shutdown();
         }
         instances.clear();
+        refreshListeners();
+        visibility.reload();
         arenas.clear();
         FileConfiguration config = plugin.getConfig();
         ConfigurationSection section = config.getConfigurationSection("arenas");
         if (section == null) {
+            publishArenas();
             return;
         }
 
@@ -54,19 +70,63 @@ public class GameManager {
             arena.setPrepareDuration(arenaSection.getInt("prepare-duration", arena.getPrepareDuration()));
             arena.setHideDuration(arenaSection.getInt("hide-duration", arena.getHideDuration()));
             arena.setLiveDuration(arenaSection.getInt("live-duration", arena.getLiveDuration()));
+            arena.setViewDistance(arenaSection.getInt("view-distance", arena.getViewDistance()));
+            arena.setSendDistance(arenaSection.getInt("send-distance", arena.getSendDistance()));
+            arena.setWorldProfile(readWorldProfile(arenaSection));
 
             ConfigurationSection spawnSection = arenaSection.getConfigurationSection("spawns");
             if (spawnSection != null) {
                 arena.setLobbyLocation(readLocation(spawnSection, "lobby"));
-                arena.setHiderSpawn(readLocation(spawnSection, "hider"));
-                arena.setSeekerWaitSpawn(readLocation(spawnSection, "seeker-wait"));
+                readLocations(spawnSection, "hider").forEach(arena::addHiderSpawn);
+                readLocations(spawnSection, "seeker-wait").forEach(arena::addSeekerWaitSpawn);
             }
+            readRegion(arena, arenaSection.getConfigurationSection("region"));
 
             arenas.put(id.toLowerCase(Locale.ROOT), arena);
         }
+        publishArenas();
         updateLobbyBoards();
     }
 
+    private void readRegion(GameArena arena, ConfigurationSection section) {
+        if (section == null) {
+            return;
+        }
+        World world = Bukkit.getWorld(section.getString("world", ""));
+        if (world == null) {
+            plugin.getLogger().warning("Failed to load the region of arena '" + arena.getId() + "'. Please verify the world exists.");
+            return;
+        }
+        for (String point : section.getStringList("points")) {
+            String[] parts = point.split(",");
+            try {
+                arena.addRegionPoint(world, Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException ex) {
+                plugin.getLogger().warning("Ignoring region point '" + point + "' of arena '" + arena.getId() + "'.");
+            }
+        }
+        arena.setRegionHeight(section.getInt("min-y", Integer.MIN_VALUE), section.getInt("max-y", Integer.MAX_VALUE));
+    }
+
+    /**
+     * {@code settings.world-profile} merged with the arena's own {@code world-profile}
+     * section. Opt-in: {@code world-profile: true} (or {@code enabled: true} in either
+     * section) turns it on, {@code false} off. The profile is config-only:
+     * {@link #saveArena} leaves the arena's {@code world-profile} key untouched.
+     */
+    private ArenaWorldProfile readWorldProfile(ConfigurationSection arenaSection) {
+        boolean optedIn = false;
+        if (arenaSection != null && arenaSection.isBoolean("world-profile")) {
+            if (!arenaSection.getBoolean("world-profile")) {
+                return ArenaWorldProfile.disabled();
+            }
+            optedIn = true;
+        }
+        ConfigurationSection defaults = plugin.getConfig().getConfigurationSection("settings.world-profile");
+        ConfigurationSection override = arenaSection != null ? arenaSection.getConfigurationSection("world-profile") : null;
+        return ArenaWorldProfile.read(defaults, override, optedIn, plugin.getLogger());
+    }
+
     private Location readLocation(ConfigurationSection section, String path) {
         ConfigurationSection node = section.getConfigurationSection(path);
         if (node == null) {
@@ -79,6 +139,38 @@ public class GameManager {
         return location;
     }
 
+    /**
+     * Reads a spawn group: either a single location section or numbered location sections.
+     */
+    private List<Location> readLocations(ConfigurationSection section, String path) {
+        ConfigurationSection node = section.getConfigurationSection(path);
+        if (node == null) {
+            return List.of();
+        }
+        if (node.contains("world")) {
+            Location location = readLocation(section, path);
+            return location == null ? List.of() : List.of(location);
+        }
+        List<Location> locations = new ArrayList<>();
+        for (String key : node.getKeys(false)) {
+            Location location = readLocation(node, key);
+            if (location != null) {
+                locations.add(location);
+            }
+        }
+        return locations;
+    }
+
+    private void writeLocations(FileConfiguration config, String path, List<Location> locations) {
+        if (locations.size() == 1) {
+            LocationUtil.serialize(locations.get(0), config.createSection(path));
+            return;
+        }
+        for (int i = 0; i < locations.size(); i++) {
+            LocationUtil.serialize(locations.get(i), config.createSection(path + "." + (i + 1)));
+        }
+    }
+
     public void saveArena(GameArena arena) {
         FileConfiguration config = plugin.getConfig();
         String base = "arenas." + arena.getId() + ".";
@@ -89,6 +181,8 @@ public class GameManager {
         config.set(base + "prepare-duration", arena.getPrepareDuration());
         config.set(base + "hide-duration", arena.getHideDuration());
         config.set(base + "live-duration", arena.getLiveDuration());
+        config.set(base + "view-distance", arena.getViewDistance());
+        config.set(base + "send-distance", arena.getSendDistance());
 
         String spawnBase = base + "spawns.";
         config.set(spawnBase + "lobby", null);
@@ -97,13 +191,27 @@ public class GameManager {
         if (arena.getLobbyLocation() != null) {
             LocationUtil.serialize(arena.getLobbyLocation(), config.createSection(spawnBase + "lobby"));
         }
-        if (arena.getHiderSpawn() != null) {
-            LocationUtil.serialize(arena.getHiderSpawn(), config.createSection(spawnBase + "hider"));
-        }
-        if (arena.getSeekerWaitSpawn() != null) {
-            LocationUtil.serialize(arena.getSeekerWaitSpawn(), config.createSection(spawnBase + "seeker-wait"));
+        writeLocations(config, spawnBase + "hider", arena.getHiderSpawns());
+        writeLocations(config, spawnBase + "seeker-wait", arena.getSeekerWaitSpawns());
+
+        config.set(base + "region", null);
+        if (arena.hasRegionPoints()) {
+            ConfigurationSection region = config.createSection(base + "region");
+            region.set("world", arena.getRegionWorld().getName());
+            region.set("points", arena.getRegionPoints().stream().map(point -> point[0] + "," + point[1]).toList());
+            if (arena.getRegionMinY() != Integer.MIN_VALUE) {
+                region.set("min-y", arena.getRegionMinY());
+            }
+            if (arena.getRegionMaxY() != Integer.MAX_VALUE) {
+                region.set("max-y", arena.getRegionMaxY());
+            }
         }
         plugin.saveConfig();
+        GameInstance instance = instances.get(arena.getId().toLowerCase(Locale.ROOT));
+        if (instance != null) {
+            instance.invalidateScans();
+        }
+        publishArenas();
     }
 
     public GameArena createArena(String id, String name) {
@@ -116,6 +224,9 @@ public class GameManager {
         arena.setPrepareDuration(cfg.getInt("settings.prepare-duration", arena.getPrepareDuration()));
         arena.setHideDuration(cfg.getInt("settings.hide-duration", arena.getHideDuration()));
         arena.setLiveDuration(cfg.getInt("settings.live-duration", arena.getLiveDuration()));
+        arena.setViewDistance(cfg.getInt("settings.view-distance", arena.getViewDistance()));
+        arena.setSendDistance(cfg.getInt("settings.send-distance", arena.getSendDistance()));
+        arena.setWorldProfile(readWorldProfile(null));
         arenas.put(id.toLowerCase(Locale.ROOT), arena);
         saveArena(arena);
         updateLobbyBoards();
@@ -126,6 +237,7 @@ public class GameManager {
         GameInstance instance = instances.remove(id.toLowerCase(Locale.ROOT));
         if (instance != null) {
             instance.shutdown();
+            refreshListeners();
         }
         GameArena arena = arenas.remove(id.toLowerCase(Locale.ROOT));
         if (arena == null) {
@@ -133,16 +245,39 @@ public class GameManager {
         }
         plugin.getConfig().set("arenas." + id, null);
         plugin.saveConfig();
+        publishArenas();
         updateLobbyBoards();
         return true;
     }
 
     public Collection<GameArena> getArenas() {
-        return Collections.unmodifiableCollection(arenas.values());
+        return arenaView.values();
     }
 
     public GameArena getArena(String id) {
-        return arenas.get(id.toLowerCase(Locale.ROOT));
+        return arenaView.get(id.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Snapshots of every loaded instance; safe to call from any thread.
+     */
+    public List<GameSnapshot> getSnapshots() {
+        List<GameSnapshot> snapshots = new ArrayList<>(instances.size());
+        for (GameInstance instance : instances.values()) {
+            snapshots.add(instance.getSnapshot());
+        }
+        return snapshots;
+    }
+
+    public GameSnapshot getSnapshot(String id) {
+        GameInstance instance = instances.get(id.toLowerCase(Locale.ROOT));
+        return instance != null ? instance.getSnapshot() : null;
+    }
+
+    // arenas is only mutated on the main thread; readers on other threads go through arenaView.
+    private void publishArenas() {
+        arenaView = Collections.unmodifiableMap(new LinkedHashMap<>(arenas));
+        refreshArenaWorlds();
     }
 
     public GameInstance getInstance(String id) {
@@ -169,7 +304,7 @@ public class GameManager {
     }
 
     public GameInstance getGame(Player player) {
-        return playerGames.get(player.getUniqueId());
+        return sessions.get(player).getInstance();
     }
 
     public void showLobbyBoard(Player player) {
@@ -180,8 +315,28 @@ public class GameManager {
         scoreboardService.removeLobby(player);
     }
 
+    /**
+     * Coalesces lobby board refreshes: every request until the task runs is served by a
+     * single render, deferred further while the server is under load.
+     */
     public void updateLobbyBoards() {
-        scoreboardService.updateLobbyBoards();
+        if (!plugin.isEnabled()) {
+            scoreboardService.updateLobbyBoards();
+            return;
+        }
+        if (lobbyBoardTask == null) {
+            lobbyBoardTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                lobbyBoardTask = null;
+                scoreboardService.updateLobbyBoards();
+            }, plugin.getLoadGovernor().getDeferDelay());
+        }
+    }
+
+    public void refreshListeners() {
+        ListenerRegistry registry = plugin.getListenerRegistry();
+        if (registry != null) {
+            registry.refresh(instances.values());
+        }
     }
 
     public int getRunningGameCount() {
@@ -194,38 +349,147 @@ public class GameManager {
     }
 
     public int getPlayersInGamesCount() {
-        return playerGames.size();
+        return playersInGames;
     }
 
     public void setPlayerGame(Player player, GameInstance instance) {
-        if (instance == null) {
-            playerGames.remove(player.getUniqueId());
-        } else {
-            playerGames.put(player.getUniqueId(), instance);
+        PlayerSession session = sessions.get(player);
+        GameInstance previous = session.getInstance();
+        session.setInstance(instance);
+        trackMembership(previous, instance);
+        if (previous != instance) {
+            visibility.markDirty(player);
         }
     }
+
+    /**
+     * Re-evaluates who the player can see, e.g. after joining the server.
+     */
+    public void refreshVisibility(Player player) {
+        visibility.markDirty(player);
+    }
+
     public void clearPlayer(UUID uuid) {
-        playerGames.remove(uuid);
+        PlayerSession session = sessions.find(uuid);
+        if (session != null) {
+            GameInstance previous = session.getInstance();
+            session.setInstance(null);
+            trackMembership(previous, null);
+        }
+    }
+
+    private void trackMembership(GameInstance previous, GameInstance current) {
+        if (previous == null && current != null) {
+            playersInGames++;
+        } else if (previous != null && current == null) {
+            playersInGames = Math.max(0, playersInGames - 1);
+        }
+    }
+
+    /**
+     * Cheap pre-check for event handlers: false without any lookup while nobody is in a game,
+     * otherwise a single session lookup.
+     */
+    public boolean isInGame(Player player) {
+        if (playersInGames == 0) {
+            return false;
+        }
+        PlayerSession session = sessions.find(player.getUniqueId());
+        return session != null && session.isInGame();
+    }
+
+    public boolean isArenaWorld(World world) {
+        for (World arenaWorld : arenaWorlds) {
+            if (arenaWorld == world) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops exploded blocks that lie inside a protected arena region, or all of them when
+     * the explosion starts inside one.
+     */
+    public void protectBlocks(Location origin, List<Block> blocks) {
+        World world = origin.getWorld();
+        for (ArenaRegion region : protectedRegions) {
+            if (region.getWorld() != world) {
+                continue;
+            }
+            if (region.contains(origin.getBlockX(), origin.getBlockY(), origin.getBlockZ())) {
+                blocks.clear();
+                return;
+            }
+            blocks.removeIf(block -> region.contains(block.getX(), block.getY(), block.getZ()));
+        }
+    }
+
+    // World profiles are re-applied from the recorded originals each time, so a profile that
+    // was turned off or an arena that was deleted leaves its world as it found it
+    private void refreshArenaWorlds() {
+        restoreArenaWorlds();
+        Location lobby = plugin.getLobbyLocation();
+        World lobbyWorld = lobby != null ? lobby.getWorld() : null;
+        Set<World> worlds = new LinkedHashSet<>();
+        List<ArenaRegion> protectedList = new ArrayList<>();
+        for (GameArena arena : arenas.values()) {
+            addWorld(worlds, arena.getLobbyLocation());
+            arena.getHiderSpawns().forEach(location -> addWorld(worlds, location));
+            arena.getSeekerWaitSpawns().forEach(location -> addWorld(worlds, location));
+
+            ArenaRegion region = arena.hasRegionPoints()
+                    ? ArenaRegion.fromPoints(arena.getRegionWorld(), arena.getRegionPoints(), arena.getRegionMinY(), arena.getRegionMaxY())
+                    : null;
+            arena.setRegion(region);
+            if (region == null) {
+                continue;
+            }
+            worlds.add(region.getWorld());
+            if (arena.getWorldProfile().isEnabled() && region.getWorld() == lobbyWorld) {
+                plugin.getLogger().warning("Not applying the world profile of arena '" + arena.getId() + "': its world also holds the lobby.");
+            } else if (arena.getWorldProfile().isEnabled()) {
+                arena.getWorldProfile().apply(region.getWorld(), worldOriginals.computeIfAbsent(region.getWorld(), ArenaWorldProfile.Original::new));
+            }
+            if (arena.getWorldProfile().protectsBlocks()) {
+                protectedList.add(region);
+            }
+        }
+        arenaWorlds = worlds.toArray(new World[0]);
+        protectedRegions = protectedList.toArray(new ArenaRegion[0]);
+    }
+
+    private void restoreArenaWorlds() {
+        worldOriginals.values().forEach(ArenaWorldProfile.Original::restore);
+        worldOriginals.clear();
+    }
+
+    private void addWorld(Set<World> worlds, Location location) {
+        if (location != null && location.getWorld() != null) {
+            worlds.add(location.getWorld());
+        }
     }
 
     public void openSettingsMenu(Player player, GameArena arena) {
-        settingsViewers.put(player.getUniqueId(), arena);
-        pendingPrompts.remove(player.getUniqueId());
+        PlayerSession session = sessions.get(player);
+        session.setSettingsArena(arena);
+        session.clearPrompt();
         Inventory menu = org.ZeDoExter.doorHunt.gui.ArenaSettingsMenu.create(plugin, arena);
         player.openInventory(menu);
     }
 
     public GameArena getSettingsArena(Player player) {
-        return settingsViewers.get(player.getUniqueId());
+        return sessions.get(player).getSettingsArena();
     }
 
     public void closeSettingsMenu(Player player) {
-        settingsViewers.remove(player.getUniqueId());
-        pendingPrompts.remove(player.getUniqueId());
+        PlayerSession session = sessions.get(player);
+        session.setSettingsArena(null);
+        session.clearPrompt();
     }
 
     public void reopenSettingsMenu(Player player) {
-        GameArena arena = settingsViewers.get(player.getUniqueId());
+        GameArena arena = sessions.get(player).getSettingsArena();
         if (arena != null) {
             Inventory menu = org.ZeDoExter.doorHunt.gui.ArenaSettingsMenu.create(plugin, arena);
             player.openInventory(menu);
@@ -233,22 +497,25 @@ public class GameManager {
     }
 
     public void beginPrompt(Player player, GameArena arena, ArenaSetting setting) {
-        pendingPrompts.put(player.getUniqueId(), new SettingsPrompt(arena, setting));
+        sessions.get(player).beginPrompt(arena, setting);
         player.closeInventory();
         player.sendMessage(plugin.prefixed("&e" + setting.getPrompt() + " &7(type 'cancel' to abort)"));
     }
 
     public boolean isAwaitingInput(Player player) {
-        return pendingPrompts.containsKey(player.getUniqueId());
+        PlayerSession session = sessions.find(player.getUniqueId());
+        return session != null && session.isAwaitingInput();
     }
 
     public void handleChatInput(Player player, String message) {
-        SettingsPrompt prompt = pendingPrompts.get(player.getUniqueId());
-        if (prompt == null) {
+        PlayerSession session = sessions.get(player);
+        ArenaSetting setting = session.getPromptSetting();
+        GameArena arena = session.getPromptArena();
+        if (setting == null || arena == null) {
             return;
         }
         if (message.equalsIgnoreCase("cancel")) {
-            pendingPrompts.remove(player.getUniqueId());
+            session.clearPrompt();
             player.sendMessage(plugin.prefixed("&cCancelled setting."));
             reopenLater(player);
             return;
@@ -260,14 +527,14 @@ public class GameManager {
             player.sendMessage(plugin.prefixed("&cPlease enter a number."));
             return;
         }
-        if (!prompt.setting.isValid(prompt.arena, value)) {
-            player.sendMessage(plugin.prefixed("&cThat value is not valid for " + prompt.setting.getDisplayName() + "."));
+        if (!setting.isValid(arena, value)) {
+            player.sendMessage(plugin.prefixed("&cThat value is not valid for " + setting.getDisplayName() + "."));
             return;
         }
-        prompt.setting.set(prompt.arena, value);
-        saveArena(prompt.arena);
-        pendingPrompts.remove(player.getUniqueId());
-        player.sendMessage(plugin.prefixed("&aSet " + prompt.setting.getDisplayName() + " to &e" + value + "&a."));
+        setting.set(arena, value);
+        saveArena(arena);
+        session.clearPrompt();
+        player.sendMessage(plugin.prefixed("&aSet " + setting.getDisplayName() + " to &e" + value + "&a."));
         reopenLater(player);
     }
 
@@ -277,7 +544,7 @@ public class GameManager {
 
 
     public void removePlayer(Player player) {
-        GameInstance instance = playerGames.remove(player.getUniqueId());
+        GameInstance instance = getGame(player);
         if (instance != null) {
             instance.leave(player, true);
         }
@@ -288,21 +555,24 @@ public class GameManager {
     }
 
     public void shutdown() {
+        if (lobbyBoardTask != null) {
+            lobbyBoardTask.cancel();
+            lobbyBoardTask = null;
+        }
         for (GameInstance instance : new ArrayList<>(instances.values())) {
             instance.shutdown();
         }
         instances.clear();
         arenas.clear();
-        playerGames.clear();
-    }
-
-    private static class SettingsPrompt {
-        private final GameArena arena;
-        private final ArenaSetting setting;
-
-        private SettingsPrompt(GameArena arena, ArenaSetting setting) {
-            this.arena = arena;
-            this.setting = setting;
+        arenaView = Map.of();
+        for (PlayerSession session : sessions.getSessions()) {
+            session.setInstance(null);
         }
+        playersInGames = 0;
+        arenaWorlds = new World[0];
+        protectedRegions = new ArenaRegion[0];
+        restoreArenaWorlds();
+        refreshListeners();
+        visibility.shutdown();
     }
 }
@@ -0,0 +1,53 @@
+package org.ZeDoExter.doorHunt.game;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable view of a {@link GameInstance}, republished after every change. Safe to read
+ * from TAB, PlaceholderAPI or metrics threads without locking or hopping to the main thread.
+ */
+public record GameSnapshot(String arenaId,
+                           String arenaName,
+                           GameState state,
+                           int remainingSeconds,
+                           String timeLabel,
+                           int minPlayers,
+                           int maxPlayers,
+                           Set<UUID> players,
+                           Set<UUID> seekers,
+                           Set<UUID> hiders) {
+
+    public static GameSnapshot empty(GameArena arena) {
+        return new GameSnapshot(arena.getId(), arena.getDisplayName(), GameState.WAITING, 0, "Waiting",
+                arena.getMinPlayers(), arena.getMaxPlayers(), Set.of(), Set.of(), Set.of());
+    }
+
+    public int playerCount() {
+        return players.size();
+    }
+
+    public int seekerCount() {
+        return seekers.size();
+    }
+
+    public int hiderCount() {
+        return hiders.size();
+    }
+
+    public boolean isPlaying(UUID uuid) {
+        return players.contains(uuid);
+    }
+
+    public boolean isSeeker(UUID uuid) {
+        return seekers.contains(uuid);
+    }
+
+    public boolean isHider(UUID uuid) {
+        return hiders.contains(uuid);
+    }
+
+    public String formattedTime() {
+        return String.format("%02d:%02d", remainingSeconds / 60, remainingSeconds % 60);
+    }
+}
@@ -0,0 +1,78 @@
+package org.ZeDoExter.doorHunt.game;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One boss bar per instance showing the current phase timer to every participant, so the
+ * countdown doesn't have to be pushed through each player's sidebar or chat.
+ */
+public class PhaseBossBar {
+    private final BossBar bar = BossBar.bossBar(Component.empty(), 1.0f, BossBar.Color.WHITE, BossBar.Overlay.PROGRESS);
+    private final Set<UUID> viewers = new HashSet<>();
+    private GameState shownState;
+    private int shownSeconds = -1;
+
+    public void show(Player player) {
+        if (viewers.add(player.getUniqueId())) {
+            player.showBossBar(bar);
+        }
+    }
+
+    public void hide(Player player) {
+        if (viewers.remove(player.getUniqueId())) {
+            player.hideBossBar(bar);
+        }
+    }
+
+    public void hideAll() {
+        for (UUID uuid : viewers) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                player.hideBossBar(bar);
+            }
+        }
+        viewers.clear();
+        shownState = null;
+        shownSeconds = -1;
+    }
+
+    /**
+     * Updates name, progress and colour for the whole room. {@code total} is the full length
+     * of the current phase in seconds.
+     */
+    public void update(GameSnapshot snapshot, int total) {
+        GameState state = snapshot.state();
+        int seconds = Math.max(0, snapshot.remainingSeconds());
+        if (state == shownState && seconds == shownSeconds) {
+            return;
+        }
+        if (state != shownState) {
+            bar.color(colorFor(state));
+        }
+        shownState = state;
+        shownSeconds = seconds;
+        bar.name(Component.text(snapshot.timeLabel() + ": ", NamedTextColor.WHITE)
+                .append(Component.text(snapshot.formattedTime(), NamedTextColor.YELLOW)));
+        float progress = total > 0 ? (float) seconds / total : 1.0f;
+        bar.progress(Math.max(0.0f, Math.min(1.0f, progress)));
+    }
+
+    private BossBar.Color colorFor(GameState state) {
+        return switch (state) {
+            case COUNTDOWN -> BossBar.Color.GREEN;
+            case PREPARING -> BossBar.Color.YELLOW;
+            case HIDING -> BossBar.Color.BLUE;
+            case LIVE -> BossBar.Color.RED;
+            case ENDING, COOLDOWN -> BossBar.Color.PURPLE;
+            default -> BossBar.Color.WHITE;
+        };
+    }
+}
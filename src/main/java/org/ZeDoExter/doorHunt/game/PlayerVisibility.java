@@ -0,0 +1,132 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.session.PlayerSession;
+import org.ZeDoExter.doorHunt.session.SessionManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps players of different games (and the lobby) hidden from each other so the client
+ * only tracks people it can interact with. Membership changes are queued and applied
+ * together on the next tick.
+ */
+final class PlayerVisibility {
+    private static final Object LOBBY = new Object();
+
+    private final DoorHunt plugin;
+    private final SessionManager sessions;
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+    private boolean enabled;
+    private BukkitTask flushTask;
+
+    PlayerVisibility(DoorHunt plugin, SessionManager sessions) {
+        this.plugin = plugin;
+        this.sessions = sessions;
+    }
+
+    void reload() {
+        boolean wasEnabled = enabled;
+        enabled = plugin.getConfig().getBoolean("settings.visibility-isolation", true);
+        if (wasEnabled != enabled) {
+            markAll();
+        }
+    }
+
+    void markDirty(Player player) {
+        dirty.add(player.getUniqueId());
+        scheduleFlush();
+    }
+
+    void markAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            dirty.add(player.getUniqueId());
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushTask != null || dirty.isEmpty()) {
+            return;
+        }
+        if (!plugin.isEnabled()) {
+            flush();
+            return;
+        }
+        flushTask = Bukkit.getScheduler().runTask(plugin, () -> {
+            flushTask = null;
+            flush();
+        });
+    }
+
+    private void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Player> online = new ArrayList<>(Bukkit.getOnlinePlayers());
+        Map<UUID, Object> groups = new HashMap<>(online.size() * 2);
+        for (Player player : online) {
+            groups.put(player.getUniqueId(), groupOf(player));
+        }
+        for (UUID uuid : dirty) {
+            Player changed = Bukkit.getPlayer(uuid);
+            if (changed == null) {
+                continue;
+            }
+            Object group = groups.get(uuid);
+            for (Player other : online) {
+                if (other == changed) {
+                    continue;
+                }
+                boolean visible = !enabled || group == groups.get(other.getUniqueId());
+                apply(changed, other, visible);
+                apply(other, changed, visible);
+            }
+        }
+        dirty.clear();
+    }
+
+    private Object groupOf(Player player) {
+        PlayerSession session = sessions.find(player.getUniqueId());
+        GameInstance instance = session != null ? session.getInstance() : null;
+        return instance != null ? instance : LOBBY;
+    }
+
+    // Hides are tracked per plugin and repeat calls are no-ops, so this never checks canSee:
+    // another plugin's hide (e.g. vanish) must not stand in for ours
+    private void apply(Player viewer, Player target, boolean visible) {
+        if (visible) {
+            viewer.showPlayer(plugin, target);
+        } else {
+            viewer.hidePlayer(plugin, target);
+        }
+    }
+
+    /**
+     * Reveals everyone again; used when the plugin shuts down.
+     */
+    void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        dirty.clear();
+        if (!enabled) {
+            return;
+        }
+        enabled = false;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            dirty.add(player.getUniqueId());
+        }
+        flush();
+    }
+}
@@ -0,0 +1,97 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Loads an arena region's chunks through Paper's async loader, snapshots them on the main
+ * thread and hands the snapshots to a worker thread for scanning.
+ */
+final class RegionSnapshots {
+
+    /**
+     * Inclusive chunk bounds of a region in one world.
+     */
+    record Area(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+
+        /**
+         * Chunks covering {@code region}, shrunk towards {@code anchor} (or the centre)
+         * until there are at most {@code maxChunks} of them.
+         */
+        static Area of(ArenaRegion region, Location anchor, int maxChunks) {
+            int minChunkX = region.getMinX() >> 4;
+            int minChunkZ = region.getMinZ() >> 4;
+            int maxChunkX = region.getMaxX() >> 4;
+            int maxChunkZ = region.getMaxZ() >> 4;
+            int anchorX = anchor != null ? anchor.getBlockX() >> 4 : (minChunkX + maxChunkX) / 2;
+            int anchorZ = anchor != null ? anchor.getBlockZ() >> 4 : (minChunkZ + maxChunkZ) / 2;
+            while ((long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) > Math.max(1, maxChunks)) {
+                if (maxChunkX - minChunkX >= maxChunkZ - minChunkZ) {
+                    if (anchorX - minChunkX > maxChunkX - anchorX) minChunkX++; else maxChunkX--;
+                } else {
+                    if (anchorZ - minChunkZ > maxChunkZ - anchorZ) minChunkZ++; else maxChunkZ--;
+                }
+            }
+            return new Area(region.getWorld(), minChunkX, minChunkZ, maxChunkX, maxChunkZ);
+        }
+
+        int minBlockX() {
+            return minChunkX << 4;
+        }
+
+        int minBlockZ() {
+            return minChunkZ << 4;
+        }
+
+        int width() {
+            return (maxChunkX - minChunkX + 1) << 4;
+        }
+
+        int depth() {
+            return (maxChunkZ - minChunkZ + 1) << 4;
+        }
+    }
+
+    private RegionSnapshots() {
+    }
+
+    /**
+     * Snapshots every generated chunk of {@code area} and runs {@code worker} on an async
+     * task once all of them are in. Nothing runs if the plugin is disabled meanwhile.
+     */
+    static void capture(DoorHunt plugin, Area area, boolean heightmap, String purpose, Consumer<Collection<ChunkSnapshot>> worker) {
+        World world = area.world();
+        Queue<ChunkSnapshot> snapshots = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> loads = new ArrayList<>();
+        for (int chunkX = area.minChunkX(); chunkX <= area.maxChunkX(); chunkX++) {
+            for (int chunkZ = area.minChunkZ(); chunkZ <= area.maxChunkZ(); chunkZ++) {
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ, false).thenAccept(chunk -> {
+                    if (chunk != null) {
+                        snapshots.add(chunk.getChunkSnapshot(heightmap, false, false));
+                    }
+                }));
+            }
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            if (error != null) {
+                plugin.getLogger().log(Level.WARNING, "Failed to load chunks for " + purpose, error);
+            }
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> worker.accept(snapshots));
+        });
+    }
+}
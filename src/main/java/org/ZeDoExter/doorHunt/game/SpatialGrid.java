@@ -0,0 +1,120 @@
+package org.ZeDoExter.doorHunt.game;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Buckets participants into 8x8 block columns. Members only move between buckets when
+ * they cross a cell boundary, and queries scan outward ring by ring from the origin cell,
+ * so a lookup only visits players that could actually be close. Main thread only.
+ */
+final class SpatialGrid {
+    private static final int CELL_SHIFT = 3;
+    private static final double CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Map<Long, Set<UUID>> cells = new HashMap<>();
+    private final Map<UUID, Long> memberCells = new HashMap<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    void update(UUID uuid, Location location) {
+        long cell = key(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+        Long previous = memberCells.put(uuid, cell);
+        if (previous != null) {
+            if (previous == cell) {
+                return;
+            }
+            removeFromCell(previous, uuid);
+        }
+        cells.computeIfAbsent(cell, ignored -> new HashSet<>(4)).add(uuid);
+    }
+
+    void remove(UUID uuid) {
+        Long previous = memberCells.remove(uuid);
+        if (previous != null) {
+            removeFromCell(previous, uuid);
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        memberCells.clear();
+    }
+
+    boolean isEmpty() {
+        return memberCells.isEmpty();
+    }
+
+    /**
+     * Closest member within {@code maxDistance} blocks of {@code origin}, or null.
+     */
+    Player nearest(Location origin, double maxDistance) {
+        return search(origin, maxDistance, false);
+    }
+
+    /**
+     * Any member within {@code radius} blocks of {@code origin}, or null.
+     */
+    Player anyWithin(Location origin, double radius) {
+        return search(origin, radius, true);
+    }
+
+    private Player search(Location origin, double maxDistance, boolean firstMatch) {
+        if (memberCells.isEmpty()) {
+            return null;
+        }
+        int centerX = origin.getBlockX() >> CELL_SHIFT;
+        int centerZ = origin.getBlockZ() >> CELL_SHIFT;
+        int maxRing = (int) Math.ceil(maxDistance / CELL_SIZE);
+        double bestSquared = maxDistance * maxDistance;
+        Player best = null;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every cell of this ring is at least (ring - 1) cells away from the origin
+            double ringDistance = (ring - 1) * CELL_SIZE;
+            if (best != null && ringDistance > 0 && ringDistance * ringDistance > bestSquared) {
+                break;
+            }
+            for (int dx = -ring; dx <= ring; dx++) {
+                int step = Math.abs(dx) == ring ? 1 : ring * 2;
+                for (int dz = -ring; dz <= ring; dz += step) {
+                    Set<UUID> members = cells.get(key(centerX + dx, centerZ + dz));
+                    if (members == null) {
+                        continue;
+                    }
+                    for (UUID uuid : members) {
+                        Player player = Bukkit.getPlayer(uuid);
+                        if (player == null || player.getWorld() != origin.getWorld()) {
+                            continue;
+                        }
+                        double distance = player.getLocation(scratch).distanceSquared(origin);
+                        if (distance <= bestSquared) {
+                            bestSquared = distance;
+                            best = player;
+                            if (firstMatch) {
+                                return best;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private void removeFromCell(long cell, UUID uuid) {
+        Set<UUID> members = cells.get(cell);
+        if (members != null && members.remove(uuid) && members.isEmpty()) {
+            cells.remove(cell);
+        }
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
@@ -17,7 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 public class ArenaSettingsMenu implements InventoryHolder {
-    private static final List<Integer> SETTING_SLOTS = List.of(10, 11, 12, 14, 15, 16);
+    private static final List<Integer> SETTING_SLOTS = List.of(10, 11, 12, 14, 15, 16, 20, 24);
 
     private final DoorHunt plugin;
     private final GameArena arena;
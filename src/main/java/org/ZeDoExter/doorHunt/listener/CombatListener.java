@@ -0,0 +1,108 @@
+package org.ZeDoExter.doorHunt.listener;
+
+import org.ZeDoExter.doorHunt.game.GameInstance;
+import org.ZeDoExter.doorHunt.game.GameManager;
+import org.ZeDoExter.doorHunt.game.GameState;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.entity.TNTPrimed;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
+
+/**
+ * Registered while at least one instance is in HIDING or LIVE: turns lethal hits into conversions.
+ */
+public class CombatListener implements Listener {
+    private final GameManager gameManager;
+
+    public CombatListener(GameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player player) || !gameManager.isInGame(player)) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(player);
+        if (instance == null) {
+            return;
+        }
+        GameState state = instance.getState();
+        if (!state.isActivePlay()) {
+            return;
+        }
+        if (instance.isPendingConversion(player)) {
+            event.setCancelled(true);
+            return;
+        }
+        if (isExplosion(event.getCause())
+                && instance.isHider(player)
+                && event.getFinalDamage() >= player.getHealth()) {
+            event.setCancelled(true);
+            instance.queueExplosionKill(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDamageByEntity(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player victim) || !gameManager.isInGame(victim)) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(victim);
+        if (instance == null) {
+            return;
+        }
+        Player attacker = resolveAttacker(event.getDamager());
+        if (attacker == null) {
+            event.setCancelled(true);
+            return;
+        }
+        GameInstance attackerGame = gameManager.getGame(attacker);
+        if (attackerGame == null || attackerGame != instance) {
+            event.setCancelled(true);
+            return;
+        }
+        if (instance.getState() != GameState.LIVE) {
+            event.setCancelled(true);
+            return;
+        }
+        if (!instance.isSeeker(attacker) || !instance.isHider(victim)) {
+            event.setCancelled(true);
+            return;
+        }
+        if (instance.isPendingConversion(victim)) {
+            event.setCancelled(true);
+            return;
+        }
+        instance.recordAttack(attacker, victim);
+        if (event.getFinalDamage() >= victim.getHealth()) {
+            event.setCancelled(true);
+            instance.queueKill(attacker, victim);
+        }
+    }
+
+    private Player resolveAttacker(Entity damager) {
+        if (damager instanceof Player player) {
+            return player;
+        }
+        if (damager instanceof Projectile projectile) {
+            if (projectile.getShooter() instanceof Player player) {
+                return player;
+            }
+        }
+        if (damager instanceof TNTPrimed tnt && tnt.getSource() instanceof Player player) {
+            return player;
+        }
+        return null;
+    }
+
+    private boolean isExplosion(DamageCause cause) {
+        return cause == DamageCause.BLOCK_EXPLOSION || cause == DamageCause.ENTITY_EXPLOSION;
+    }
+}
@@ -1,28 +1,20 @@
 package org.ZeDoExter.doorHunt.listener;
 
 import org.ZeDoExter.doorHunt.DoorHunt;
-import org.ZeDoExter.doorHunt.game.GameInstance;
 import org.ZeDoExter.doorHunt.game.GameManager;
-import org.ZeDoExter.doorHunt.game.GameState;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
-import org.bukkit.entity.Projectile;
-import org.bukkit.entity.TNTPrimed;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
-import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityDamageEvent.DamageCause;
-import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.player.PlayerDropItemEvent;
-import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.inventory.EquipmentSlot;
-import org.bukkit.inventory.ItemStack;
 
+/**
+ * Always registered. Phase-specific handlers live in {@link ParticipantListener} and
+ * {@link CombatListener}, which {@link ListenerRegistry} registers only while needed.
+ */
 public class GameListener implements Listener {
     private final DoorHunt plugin;
     private final GameManager gameManager;
@@ -32,146 +24,50 @@ public class GameListener implements Listener {
         this.gameManager = gameManager;
     }
 
-    @EventHandler
-    public void onJoin(PlayerJoinEvent event) {
-        if (gameManager.getGame(event.getPlayer()) == null) {
-            gameManager.showLobbyBoard(event.getPlayer());
-            gameManager.updateLobbyBoards();
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            plugin.getNameCache().remember(event.getUniqueId(), event.getName());
         }
-        plugin.getTabListService().clear(event.getPlayer());
     }
 
-    @EventHandler
-    public void onQuit(PlayerQuitEvent event) {
-        gameManager.removePlayer(event.getPlayer());
-    }
-
-    @EventHandler
-    public void onBlockBreak(BlockBreakEvent event) {
-        GameInstance instance = gameManager.getGame(event.getPlayer());
-        if (instance != null) {
-            event.setCancelled(true);
-        }
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onSessionStart(PlayerJoinEvent event) {
+        plugin.getSessionManager().create(event.getPlayer());
+        plugin.getNameCache().remember(event.getPlayer().getUniqueId(), event.getPlayer().getName());
     }
 
     @EventHandler
-    public void onBlockPlace(BlockPlaceEvent event) {
-        GameInstance instance = gameManager.getGame(event.getPlayer());
-        if (instance != null) {
-            event.setCancelled(true);
-        }
-    }
-
-    @EventHandler
-    public void onInventoryClick(InventoryClickEvent event) {
-        if (!(event.getWhoClicked() instanceof Player player)) {
-            return;
-        }
-        GameInstance instance = gameManager.getGame(player);
-        if (instance == null) {
-            return;
-        }
-        ItemStack current = event.getCurrentItem();
-        if (plugin.isReturnItem(current)) {
-            event.setCancelled(true);
-        }
-    }
-
-    @EventHandler
-    public void onDrop(PlayerDropItemEvent event) {
-        if (plugin.isReturnItem(event.getItemDrop().getItemStack())) {
-            event.setCancelled(true);
+    public void onJoin(PlayerJoinEvent event) {
+        if (gameManager.getGame(event.getPlayer()) == null) {
+            gameManager.showLobbyBoard(event.getPlayer());
+            gameManager.updateLobbyBoards();
         }
+        plugin.getTabListService().clear(event.getPlayer());
+        gameManager.refreshVisibility(event.getPlayer());
     }
 
-    @EventHandler
-    public void onInteract(PlayerInteractEvent event) {
-        if (event.getHand() != EquipmentSlot.HAND) {
-            return;
-        }
-        Player player = event.getPlayer();
-        if (!plugin.isReturnItem(player.getInventory().getItemInMainHand())) {
-            return;
-        }
-        GameInstance instance = gameManager.getGame(player);
-        if (instance != null) {
-            instance.leave(player, false);
-            player.sendMessage(plugin.prefixed("&aReturned to the lobby."));
+    @EventHandler(ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        if (gameManager.isArenaWorld(event.getLocation().getWorld())) {
+            gameManager.protectBlocks(event.getLocation(), event.blockList());
         }
     }
 
-    @EventHandler
-    public void onDamage(EntityDamageEvent event) {
-        if (!(event.getEntity() instanceof Player player)) {
-            return;
-        }
-        GameInstance instance = gameManager.getGame(player);
-        if (instance == null) {
-            return;
-        }
-        if (instance.getState() == GameState.WAITING || instance.getState() == GameState.COUNTDOWN || instance.getState() == GameState.ENDING || instance.getState() == GameState.COOLDOWN) {
-            event.setCancelled(true);
-            return;
-        }
-        if ((instance.getState() == GameState.HIDING || instance.getState() == GameState.LIVE)
-                && instance.isHider(player)
-                && isExplosion(event.getCause())
-                && event.getFinalDamage() >= player.getHealth()) {
-            event.setCancelled(true);
-            instance.handleExplosionKill(player);
+    @EventHandler(ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        if (gameManager.isArenaWorld(event.getBlock().getWorld())) {
+            gameManager.protectBlocks(event.getBlock().getLocation(), event.blockList());
         }
     }
 
     @EventHandler
-    public void onDamageByEntity(EntityDamageByEntityEvent event) {
-        if (!(event.getEntity() instanceof Player victim)) {
-            return;
-        }
-        GameInstance instance = gameManager.getGame(victim);
-        if (instance == null) {
-            return;
-        }
-        Player attacker = resolveAttacker(event.getDamager());
-        if (attacker == null) {
-            event.setCancelled(true);
-            return;
-        }
-        GameInstance attackerGame = gameManager.getGame(attacker);
-        if (attackerGame == null || attackerGame != instance) {
-            event.setCancelled(true);
-            return;
-        }
-        if (instance.getState() != GameState.LIVE) {
-            event.setCancelled(true);
-            return;
-        }
-        if (!instance.isSeeker(attacker) || !instance.isHider(victim)) {
-            event.setCancelled(true);
-            return;
-        }
-        instance.recordAttack(attacker, victim);
-        if (event.getFinalDamage() >= victim.getHealth()) {
-            event.setCancelled(true);
-            instance.handleKill(attacker, victim);
-        }
-    }
-
-    private Player resolveAttacker(Entity damager) {
-        if (damager instanceof Player player) {
-            return player;
-        }
-        if (damager instanceof Projectile projectile) {
-            if (projectile.getShooter() instanceof Player player) {
-                return player;
-            }
-        }
-        if (damager instanceof TNTPrimed tnt && tnt.getSource() instanceof Player player) {
-            return player;
-        }
-        return null;
+    public void onQuit(PlayerQuitEvent event) {
+        gameManager.removePlayer(event.getPlayer());
     }
 
-    private boolean isExplosion(DamageCause cause) {
-        return cause == DamageCause.BLOCK_EXPLOSION || cause == DamageCause.ENTITY_EXPLOSION;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSessionEnd(PlayerQuitEvent event) {
+        plugin.getSessionManager().destroy(event.getPlayer().getUniqueId());
     }
 }
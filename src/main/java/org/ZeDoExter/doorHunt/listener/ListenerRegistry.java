@@ -0,0 +1,72 @@
+package org.ZeDoExter.doorHunt.listener;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.game.GameInstance;
+import org.ZeDoExter.doorHunt.game.GameManager;
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers phase listeners when the first instance needs them and unregisters them
+ * through {@link HandlerList} once the last one leaves, so idle servers pay nothing
+ * for the plugin's block, interact and combat handlers.
+ */
+public class ListenerRegistry {
+
+    public enum Group {
+        PARTICIPANT,
+        COMBAT
+    }
+
+    private final DoorHunt plugin;
+    private final Map<Group, Listener> listeners = new EnumMap<>(Group.class);
+    private final Set<Group> registered = EnumSet.noneOf(Group.class);
+
+    public ListenerRegistry(DoorHunt plugin, GameManager gameManager) {
+        this.plugin = plugin;
+        listeners.put(Group.PARTICIPANT, new ParticipantListener(plugin, gameManager));
+        listeners.put(Group.COMBAT, new CombatListener(gameManager));
+    }
+
+    public void refresh(Collection<GameInstance> instances) {
+        Set<Group> needed = EnumSet.noneOf(Group.class);
+        for (GameInstance instance : instances) {
+            if (instance.getPlayers().isEmpty()) {
+                continue;
+            }
+            needed.add(Group.PARTICIPANT);
+            if (instance.getState().isActivePlay()) {
+                needed.add(Group.COMBAT);
+                break;
+            }
+        }
+        for (Group group : Group.values()) {
+            boolean active = registered.contains(group);
+            if (needed.contains(group) && !active) {
+                Bukkit.getPluginManager().registerEvents(listeners.get(group), plugin);
+                registered.add(group);
+            } else if (!needed.contains(group) && active) {
+                HandlerList.unregisterAll(listeners.get(group));
+                registered.remove(group);
+            }
+        }
+    }
+
+    public Set<Group> getRegistered() {
+        return EnumSet.copyOf(registered);
+    }
+
+    public void shutdown() {
+        for (Group group : registered) {
+            HandlerList.unregisterAll(listeners.get(group));
+        }
+        registered.clear();
+    }
+}
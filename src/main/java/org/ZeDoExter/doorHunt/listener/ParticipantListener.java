@@ -0,0 +1,196 @@
+package org.ZeDoExter.doorHunt.listener;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.game.ArenaRegion;
+import org.ZeDoExter.doorHunt.game.GameInstance;
+import org.ZeDoExter.doorHunt.game.GameManager;
+import org.ZeDoExter.doorHunt.game.GameState;
+import org.bukkit.Location;
+import org.bukkit.Tag;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.inventory.EquipmentSlot;
+
+import java.util.Map;
+
+/**
+ * Registered while at least one instance has players: protects participants and the arena.
+ */
+public class ParticipantListener implements Listener {
+    private final DoorHunt plugin;
+    private final GameManager gameManager;
+
+    public ParticipantListener(DoorHunt plugin, GameManager gameManager) {
+        this.plugin = plugin;
+        this.gameManager = gameManager;
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Player player = event.getPlayer();
+        if (!gameManager.isInGame(player) || !gameManager.isArenaWorld(player.getWorld())) {
+            return;
+        }
+        event.setCancelled(true);
+    }
+
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        Player player = event.getPlayer();
+        if (!gameManager.isInGame(player) || !gameManager.isArenaWorld(player.getWorld())) {
+            return;
+        }
+        event.setCancelled(true);
+    }
+
+    // Only block-changing moves are checked; seekers waiting out the hiding phase are exempt.
+    // The grid is fed from here too, so the hottest handler resolves the instance once.
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY() && from.getBlockZ() == to.getBlockZ()) {
+            return;
+        }
+        Player player = event.getPlayer();
+        if (!gameManager.isInGame(player)) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(player);
+        if (instance == null) {
+            return;
+        }
+        if (instance.getArena().hasRegionPoints() && instance.getState().isActivePlay()
+                && !(instance.getState() == GameState.HIDING && instance.isSeeker(player))) {
+            confine(instance, event);
+        }
+        track(instance, player, from, event.getTo());
+    }
+
+    private void confine(GameInstance instance, PlayerMoveEvent event) {
+        ArenaRegion region = instance.getArena().getRegion();
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (region == null || region.contains(to)) {
+            return;
+        }
+        if (region.contains(from)) {
+            Location back = from.clone();
+            back.setYaw(to.getYaw());
+            back.setPitch(to.getPitch());
+            event.setTo(back);
+        } else {
+            event.setTo(instance.getArena().getHiderSpawn(0));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        Player player = event.getPlayer();
+        if (!gameManager.isInGame(player)) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(player);
+        if (instance != null) {
+            track(instance, player, event.getFrom(), event.getTo());
+        }
+    }
+
+    private static void track(GameInstance instance, Player player, Location from, Location to) {
+        if (from.getBlockX() == to.getBlockX() && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        instance.trackMovement(player, to);
+    }
+
+    @EventHandler(priority = EventPriority.LOW)
+    public void onDoorInteract(PlayerInteractEvent event) {
+        Block block = event.getClickedBlock();
+        if (event.getAction() != Action.RIGHT_CLICK_BLOCK || block == null || !Tag.DOORS.isTagged(block.getType())
+                || !gameManager.isInGame(event.getPlayer())) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(event.getPlayer());
+        if (instance == null || !instance.isDoorLocked(block)) {
+            return;
+        }
+        event.setUseInteractedBlock(Event.Result.DENY);
+        if (event.getHand() == EquipmentSlot.HAND) {
+            event.getPlayer().sendMessage(plugin.getLanguageManager().format(event.getPlayer(), "game.door-locked",
+                    Map.of(), "&cThis door is locked!"));
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player) || !gameManager.isInGame(player)) {
+            return;
+        }
+        if (plugin.isReturnItem(event.getCurrentItem())) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        if (!gameManager.isInGame(event.getPlayer())) {
+            return;
+        }
+        if (plugin.isReturnItem(event.getItemDrop().getItemStack())) {
+            event.setCancelled(true);
+        }
+    }
+
+    // Right-clicking air arrives pre-cancelled, so this one must not ignore cancelled events.
+    @EventHandler
+    public void onInteract(PlayerInteractEvent event) {
+        if (event.getHand() != EquipmentSlot.HAND) {
+            return;
+        }
+        Player player = event.getPlayer();
+        if (!gameManager.isInGame(player) || !gameManager.isArenaWorld(player.getWorld())) {
+            return;
+        }
+        if (!plugin.isReturnItem(event.getItem())) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(player);
+        if (instance != null) {
+            // leave() already tells the player they are back in the lobby
+            instance.leave(player, false);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onDamage(EntityDamageEvent event) {
+        if (!(event.getEntity() instanceof Player player) || !gameManager.isInGame(player)) {
+            return;
+        }
+        GameInstance instance = gameManager.getGame(player);
+        if (instance == null) {
+            return;
+        }
+        GameState state = instance.getState();
+        if (state.isActivePlay()) {
+            return;
+        }
+        // Combat rules for HIDING/LIVE are handled by CombatListener.
+        if (state != GameState.PREPARING || event instanceof EntityDamageByEntityEvent) {
+            event.setCancelled(true);
+        }
+    }
+}
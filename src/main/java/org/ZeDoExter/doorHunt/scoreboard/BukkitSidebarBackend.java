@@ -0,0 +1,53 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.util.TabListService;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+class BukkitSidebarBackend implements SidebarBackend {
+    private final DoorHunt plugin;
+
+    BukkitSidebarBackend(DoorHunt plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public String getName() {
+        return "Bukkit";
+    }
+
+    @Override
+    public SidebarBoard create(boolean shared) {
+        if (Bukkit.getScoreboardManager() == null) {
+            return null;
+        }
+        BukkitSidebarBoard board = new BukkitSidebarBoard(Bukkit.getScoreboardManager().getNewScoreboard(), shared);
+        TabListService tabListService = plugin.getTabListService();
+        if (tabListService != null) {
+            tabListService.syncScoreboard(board.getScoreboard());
+        }
+        return board;
+    }
+
+    @Override
+    public void hide(Player player) {
+        if (Bukkit.getScoreboardManager() != null) {
+            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        }
+    }
+
+    @Override
+    public boolean resolvesPlaceholders() {
+        return false;
+    }
+
+    @Override
+    public int maxLineLength() {
+        return 32;
+    }
+
+    @Override
+    public void shutdown() {
+    }
+}
@@ -0,0 +1,141 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Sidebar backed by its own Bukkit {@link Scoreboard}, updated in place: only changed
+ * lines are reset and re-scored instead of building a new scoreboard on every refresh.
+ */
+class BukkitSidebarBoard extends SidebarBoard {
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    private String title = "";
+    private String[] lines = new String[0];
+    private Set<UUID> syncedSeekers;
+    private Set<UUID> syncedHiders;
+
+    BukkitSidebarBoard(Scoreboard scoreboard, boolean shared) {
+        super(shared);
+        this.scoreboard = scoreboard;
+        this.objective = scoreboard.registerNewObjective("doorhunt", "dummy", title);
+        this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    }
+
+    Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    @Override
+    boolean isShownTo(Player player) {
+        return player.getScoreboard() == scoreboard;
+    }
+
+    @Override
+    void showTo(Player player) {
+        player.setScoreboard(scoreboard);
+    }
+
+    @Override
+    protected void render(RenderedSidebar rendered) {
+        if (!Objects.equals(title, rendered.title())) {
+            title = rendered.title();
+            objective.setDisplayName(title);
+        }
+        List<String> next = rendered.lines();
+        int size = next.size();
+        boolean resized = size != lines.length;
+        for (int i = 0; i < lines.length; i++) {
+            String old = lines[i];
+            if (resized || i >= size || !old.equals(next.get(i))) {
+                if (!next.contains(old)) {
+                    scoreboard.resetScores(old);
+                }
+            }
+        }
+        String[] updated = new String[size];
+        for (int i = 0; i < size; i++) {
+            String line = next.get(i);
+            updated[i] = line;
+            if (resized || i >= lines.length || !line.equals(lines[i])) {
+                objective.getScore(line).setScore(size - i);
+            }
+        }
+        lines = updated;
+    }
+
+    /**
+     * Skipped when the roster hasn't changed since the last sync.
+     */
+    @Override
+    void syncRoster(Set<UUID> seekers, Set<UUID> hiders, Function<UUID, String> names) {
+        if (seekers == null || hiders == null) {
+            if (syncedSeekers != null) {
+                unregister("seekers");
+                unregister("hiders");
+                syncedSeekers = null;
+                syncedHiders = null;
+            }
+            return;
+        }
+        if (seekers.equals(syncedSeekers) && hiders.equals(syncedHiders)) {
+            return;
+        }
+        Team seekerTeam = ensureTeam("seekers", ChatColor.RED);
+        Team hiderTeam = ensureTeam("hiders", ChatColor.GREEN);
+        fill(seekerTeam, seekers, names);
+        fill(hiderTeam, hiders, names);
+        syncedSeekers = seekers;
+        syncedHiders = hiders;
+    }
+
+    private void fill(Team team, Set<UUID> members, Function<UUID, String> names) {
+        Set<String> entries = team.getEntries();
+        Set<String> wanted = new HashSet<>();
+        for (UUID uuid : members) {
+            String name = names.apply(uuid);
+            if (name != null) {
+                wanted.add(name);
+            }
+        }
+        for (String entry : Set.copyOf(entries)) {
+            if (!wanted.contains(entry)) {
+                team.removeEntry(entry);
+            }
+        }
+        for (String name : wanted) {
+            if (!entries.contains(name)) {
+                team.addEntry(name);
+            }
+        }
+    }
+
+    private Team ensureTeam(String name, ChatColor color) {
+        Team team = scoreboard.getTeam(name);
+        if (team == null) {
+            team = scoreboard.registerNewTeam(name);
+            team.setColor(color);
+            team.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.NEVER);
+            team.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER);
+        }
+        return team;
+    }
+
+    private void unregister(String name) {
+        Team team = scoreboard.getTeam(name);
+        if (team != null) {
+            team.unregister();
+        }
+    }
+}
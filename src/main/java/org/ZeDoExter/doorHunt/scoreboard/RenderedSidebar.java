@@ -0,0 +1,9 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import java.util.List;
+
+/**
+ * Fully resolved and colorized sidebar content, produced off the main thread.
+ */
+record RenderedSidebar(String title, List<String> lines) {
+}
@@ -1,14 +1,37 @@
 package org.ZeDoExter.doorHunt.scoreboard;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class ScoreboardLayout {
+    static final Pattern TOKEN = Pattern.compile("%([^%\\s]+)%");
+
     private final String title;
     private final List<String> lines;
+    private final Set<String> tokens;
 
     public ScoreboardLayout(String title, List<String> lines) {
         this.title = title;
         this.lines = lines;
+        Set<String> found = new LinkedHashSet<>();
+        collectTokens(title, found);
+        for (String line : lines) {
+            collectTokens(line, found);
+        }
+        this.tokens = Set.copyOf(found);
+    }
+
+    private static void collectTokens(String text, Set<String> found) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            found.add(matcher.group(1));
+        }
     }
 
     public String getTitle() {
@@ -18,4 +41,11 @@ public class ScoreboardLayout {
     public List<String> getLines() {
         return lines;
     }
+
+    /**
+     * Every {@code %token%} used by the title and lines, without the percent signs.
+     */
+    public Set<String> getTokens() {
+        return tokens;
+    }
 }
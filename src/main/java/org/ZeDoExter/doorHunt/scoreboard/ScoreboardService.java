@@ -4,28 +4,37 @@ import me.clip.placeholderapi.PlaceholderAPI;
 import org.ZeDoExter.doorHunt.DoorHunt;
 import org.ZeDoExter.doorHunt.game.GameInstance;
 import org.ZeDoExter.doorHunt.game.GameManager;
+import org.ZeDoExter.doorHunt.game.GameSnapshot;
 import org.ZeDoExter.doorHunt.game.GameState;
-import org.ZeDoExter.doorHunt.util.TabListService;
+import org.ZeDoExter.doorHunt.session.PlayerSession;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
-import org.bukkit.scoreboard.Scoreboard;
-import org.bukkit.scoreboard.Team;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
 
 public class ScoreboardService {
     private final DoorHunt plugin;
     private ScoreboardLayout defaultLayout;
-    private final Map<GameState, ScoreboardLayout> layouts = new EnumMap<>(GameState.class);
+    private final Map<GameState, Map<ViewerRole, ScoreboardLayout>> layouts = new EnumMap<>(GameState.class);
     private ScoreboardLayout lobbyLayout;
-    private final Set<UUID> lobbyPlayers = ConcurrentHashMap.newKeySet();
     private final boolean placeholderApiHooked;
+    private volatile SidebarBackend backend;
+    private volatile ExecutorService renderPool;
+    private boolean asyncRender;
+    private List<String> globalPlaceholders = List.of();
+    private List<String> asyncPlaceholders = List.of();
+    private int placeholderRefreshSeconds = 10;
+    private boolean hideTimerLines;
+    private final Map<Object, Map<ViewerRole, SidebarBoard>> sharedBoards = new HashMap<>();
 
     public ScoreboardService(DoorHunt plugin) {
         this.plugin = plugin;
@@ -36,6 +45,26 @@ public class ScoreboardService {
     }
 
     public void reload() {
+        selectBackend();
+        asyncRender = plugin.getConfig().getBoolean("settings.scoreboard.async-render", true);
+        if (asyncRender && renderPool == null) {
+            int threads = Math.max(1, plugin.getConfig().getInt("settings.scoreboard.render-threads", 1));
+            AtomicInteger counter = new AtomicInteger();
+            renderPool = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "DoorHunt-Scoreboard-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        globalPlaceholders = plugin.getConfig().getStringList("settings.scoreboard.global-placeholders").stream()
+                .map(prefix -> prefix.toLowerCase(Locale.ROOT))
+                .toList();
+        asyncPlaceholders = plugin.getConfig().getStringList("settings.scoreboard.async-placeholders").stream()
+                .map(prefix -> prefix.toLowerCase(Locale.ROOT))
+                .toList();
+        placeholderRefreshSeconds = Math.max(1, plugin.getConfig().getInt("settings.scoreboard.placeholder-refresh", 10));
+        hideTimerLines = plugin.getConfig().getBoolean("settings.bossbar.enabled", true)
+                && plugin.getConfig().getBoolean("settings.bossbar.hide-sidebar-timer", true);
         layouts.clear();
         lobbyLayout = null;
         FileConfiguration config = plugin.getScoreboardConfig();
@@ -49,7 +78,7 @@ public class ScoreboardService {
                 defaultLines = hidingLines;
             }
         }
-        defaultLayout = new ScoreboardLayout(title, defaultLines);
+        defaultLayout = layout(title, defaultLines);
         ConfigurationSection states = config.getConfigurationSection("states");
         if (states != null) {
             for (String key : states.getKeys(false)) {
@@ -61,17 +90,79 @@ public class ScoreboardService {
                     if (lines.isEmpty()) {
                         lines = defaultLayout.getLines();
                     }
-                    lobbyLayout = new ScoreboardLayout(title, lines);
+                    lobbyLayout = layout(title, lines);
                     continue;
                 }
                 GameState state = parseState(key);
-                List<String> lines = states.getStringList(key);
-                if (lines.isEmpty()) {
-                    lines = defaultLayout.getLines();
+                layouts.put(state, parseRoles(states, key, title));
+            }
+        }
+    }
+
+    /**
+     * settings.scoreboard.backend: "auto" prefers TAB's scoreboard feature when it is
+     * available, "tab" or "bukkit" force one.
+     */
+    private void selectBackend() {
+        String mode = plugin.getConfig().getString("settings.scoreboard.backend", "auto").toLowerCase(Locale.ROOT);
+        SidebarBackend selected = null;
+        if (!mode.equals("bukkit")) {
+            selected = TabSidebarBackend.tryCreate(plugin);
+            if (selected == null && mode.equals("tab")) {
+                plugin.getLogger().warning("Scoreboard backend 'tab' requested but TAB's scoreboard API is unavailable, using Bukkit.");
+            }
+        }
+        if (selected == null) {
+            selected = new BukkitSidebarBackend(plugin);
+        }
+        if (backend != null && backend.getClass() == selected.getClass()) {
+            return;
+        }
+        if (backend != null) {
+            for (PlayerSession session : plugin.getSessionManager().getSessions()) {
+                Player player = Bukkit.getPlayer(session.getUuid());
+                if (player != null && session.getSidebar() != null) {
+                    backend.hide(player);
                 }
-                layouts.put(state, new ScoreboardLayout(title, lines));
+                session.setSidebar(null);
             }
+            sharedBoards.clear();
+            backend.shutdown();
         }
+        backend = selected;
+        plugin.getLogger().info("Using " + backend.getName() + " sidebar backend.");
+    }
+
+    /**
+     * A state is either a plain list of lines or a section with seeker/hider/spectator
+     * lists; roles that are missing use the section's {@code default} list.
+     */
+    private Map<ViewerRole, ScoreboardLayout> parseRoles(ConfigurationSection states, String key, String title) {
+        Map<ViewerRole, ScoreboardLayout> roles = new EnumMap<>(ViewerRole.class);
+        ConfigurationSection section = states.getConfigurationSection(key);
+        List<String> shared = section != null ? section.getStringList("default") : states.getStringList(key);
+        if (shared.isEmpty()) {
+            shared = defaultLayout.getLines();
+        }
+        ScoreboardLayout fallback = layout(title, shared);
+        for (ViewerRole role : ViewerRole.values()) {
+            List<String> lines = section != null ? section.getStringList(role.key()) : List.of();
+            roles.put(role, lines.isEmpty() ? fallback : layout(title, lines));
+        }
+        return roles;
+    }
+
+    // The boss bar already shows the phase timer, so the sidebar's timer lines are dropped
+    private ScoreboardLayout layout(String title, List<String> lines) {
+        if (hideTimerLines) {
+            List<String> kept = lines.stream()
+                    .filter(line -> !line.contains("%time%") && !line.contains("%time_label%"))
+                    .toList();
+            if (!kept.isEmpty()) {
+                lines = kept;
+            }
+        }
+        return new ScoreboardLayout(title, lines);
     }
 
     private GameState parseState(String key) {
@@ -83,23 +174,77 @@ public class ScoreboardService {
     }
 
     public void update(GameInstance instance, Map<String, String> placeholders) {
-        ScoreboardLayout layout = resolveLayout(instance.getState());
-        if (layout == null) {
-            return;
-        }
-        for (UUID uuid : instance.getPlayers()) {
-            lobbyPlayers.remove(uuid);
+        GameSnapshot snapshot = instance.getSnapshot();
+        Map<ViewerRole, List<Player>> byRole = new EnumMap<>(ViewerRole.class);
+        for (UUID uuid : snapshot.players()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player != null) {
-                apply(player, layout, placeholders, instance);
+                plugin.getSessionManager().get(player).setLobbyBoard(false);
+                byRole.computeIfAbsent(ViewerRole.of(snapshot, uuid), role -> new ArrayList<>()).add(player);
+            }
+        }
+        Map<String, String> values = Map.copyOf(placeholders);
+        Map<ViewerRole, SidebarBoard> previous = sharedBoards.getOrDefault(instance, Map.of());
+        Map<ViewerRole, SidebarBoard> shared = new EnumMap<>(ViewerRole.class);
+        List<RenderGroup> groups = new ArrayList<>(byRole.size());
+        for (Map.Entry<ViewerRole, List<Player>> entry : byRole.entrySet()) {
+            ScoreboardLayout layout = resolveLayout(snapshot.state(), entry.getKey());
+            List<RenderJob> jobs;
+            if (isShared(layout, values.keySet())) {
+                SidebarBoard board = previous.get(entry.getKey());
+                board = attachShared(board, entry.getValue());
+                if (board == null) {
+                    continue;
+                }
+                shared.put(entry.getKey(), board);
+                jobs = List.of(new RenderJob(null, null, board, board.nextSequence(), instance));
+            } else {
+                jobs = prepareAll(entry.getValue(), instance);
+            }
+            groups.add(new RenderGroup(layout, jobs));
+        }
+        retireUnused(previous, shared);
+        if (shared.isEmpty()) {
+            sharedBoards.remove(instance);
+        } else {
+            sharedBoards.put(instance, shared);
+        }
+        submit(groups, values, snapshot);
+    }
+
+    private ScoreboardLayout resolveLayout(GameState state, ViewerRole role) {
+        Map<ViewerRole, ScoreboardLayout> roles = layouts.get(state);
+        if (roles == null) {
+            roles = layouts.get(remapState(state));
+        }
+        return roles != null ? roles.get(role) : defaultLayout;
+    }
+    /**
+     * True when any role layout used for {@code state} contains {@code %token%}.
+     */
+    public boolean usesToken(GameState state, String token) {
+        Map<ViewerRole, ScoreboardLayout> roles = layouts.get(state);
+        if (roles == null) {
+            roles = layouts.get(remapState(state));
+        }
+        if (roles == null) {
+            return defaultLayout != null && defaultLayout.getTokens().contains(token);
+        }
+        for (ScoreboardLayout layout : roles.values()) {
+            if (layout.getTokens().contains(token)) {
+                return true;
             }
         }
+        return false;
     }
 
-    private ScoreboardLayout resolveLayout(GameState state) {
-        GameState effective = remapState(state);
-        return layouts.getOrDefault(effective, defaultLayout);
+    /**
+     * How often unchanged sidebars are still re-rendered so PlaceholderAPI values stay fresh.
+     */
+    public int getPlaceholderRefreshSeconds() {
+        return placeholderRefreshSeconds;
     }
+
     private GameState remapState(GameState state) {
         return switch (state) {
             case PREPARING, HIDING, LIVE, ENDING, COOLDOWN -> GameState.HIDING;
@@ -108,20 +253,31 @@ public class ScoreboardService {
     }
 
 
+    /**
+     * Drops the shared boards kept for an instance, e.g. once it empties out.
+     */
+    public void release(GameInstance instance) {
+        release((Object) instance);
+    }
+
     public void clear(Player player) {
-        lobbyPlayers.remove(player.getUniqueId());
-        if (Bukkit.getScoreboardManager() != null) {
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        PlayerSession session = plugin.getSessionManager().get(player);
+        session.setLobbyBoard(false);
+        SidebarBoard board = session.getSidebar();
+        if (board != null && !board.isShared()) {
+            board.retire();
         }
+        session.setSidebar(null);
+        backend.hide(player);
     }
 
     public void showLobby(Player player) {
-        lobbyPlayers.add(player.getUniqueId());
+        plugin.getSessionManager().get(player).setLobbyBoard(true);
         applyLobby(player);
     }
 
     public void removeLobby(Player player) {
-        lobbyPlayers.remove(player.getUniqueId());
+        plugin.getSessionManager().get(player).setLobbyBoard(false);
     }
 
     public void updateLobbyBoards() {
@@ -129,15 +285,19 @@ public class ScoreboardService {
         if (layout == null) {
             return;
         }
-        Map<String, String> placeholders = buildLobbyPlaceholders();
-        for (UUID uuid : new HashSet<>(lobbyPlayers)) {
-            Player player = Bukkit.getPlayer(uuid);
+        List<Player> viewers = new ArrayList<>();
+        for (PlayerSession session : plugin.getSessionManager().getSessions()) {
+            if (!session.hasLobbyBoard()) {
+                continue;
+            }
+            Player player = Bukkit.getPlayer(session.getUuid());
             if (player == null) {
-                lobbyPlayers.remove(uuid);
+                session.setLobbyBoard(false);
                 continue;
             }
-            apply(player, layout, placeholders, null);
+            viewers.add(player);
         }
+        submitLobby(layout, viewers, true);
     }
 
     private void applyLobby(Player player) {
@@ -146,8 +306,42 @@ public class ScoreboardService {
             clear(player);
             return;
         }
+        submitLobby(layout, List.of(player), false);
+    }
+
+    /**
+     * Without per-player placeholders every lobby viewer is attached to one shared board and
+     * a single render is queued for it. Otherwise each viewer gets a private board and its own
+     * render; a full refresh ({@code complete}) also retires the shared board first.
+     */
+    private void submitLobby(ScoreboardLayout layout, List<Player> viewers, boolean complete) {
+        if (viewers.isEmpty()) {
+            return;
+        }
         Map<String, String> placeholders = buildLobbyPlaceholders();
-        apply(player, layout, placeholders, null);
+        Map<ViewerRole, SidebarBoard> previous = sharedBoards.getOrDefault(LOBBY, Map.of());
+        List<RenderJob> jobs;
+        if (isShared(layout, placeholders.keySet())) {
+            SidebarBoard board = attachShared(previous.get(ViewerRole.SPECTATOR), viewers);
+            if (board == null) {
+                return;
+            }
+            sharedBoards.put(LOBBY, Map.of(ViewerRole.SPECTATOR, board));
+            jobs = List.of(new RenderJob(null, null, board, board.nextSequence(), null));
+        } else {
+            if (complete) {
+                release(LOBBY);
+            }
+            jobs = prepareAll(viewers, null);
+        }
+        submit(List.of(new RenderGroup(layout, jobs)), placeholders, null);
+    }
+
+    private void release(Object context) {
+        Map<ViewerRole, SidebarBoard> boards = sharedBoards.remove(context);
+        if (boards != null) {
+            retireUnused(boards, Map.of());
+        }
     }
 
     private Map<String, String> buildLobbyPlaceholders() {
@@ -163,78 +357,252 @@ public class ScoreboardService {
             placeholders.put("games", "0");
             placeholders.put("ingame", "0");
         }
-        return placeholders;
+        return Map.copyOf(placeholders);
     }
 
-    private void apply(Player player, ScoreboardLayout layout, Map<String, String> placeholders, GameInstance context) {
-        if (Bukkit.getScoreboardManager() == null) {
-            return;
+    /**
+     * Makes sure the viewer has a persistent board and reserves a sequence number for the
+     * next render. Runs on the main thread.
+     */
+    private List<RenderJob> prepareAll(List<Player> viewers, GameInstance context) {
+        List<RenderJob> jobs = new ArrayList<>(viewers.size());
+        for (Player player : viewers) {
+            PlayerSession session = plugin.getSessionManager().get(player);
+            SidebarBoard board = session.getSidebar();
+            if (board == null || board.isShared() || !board.isShownTo(player)) {
+                if (board != null && !board.isShared()) {
+                    board.retire();
+                }
+                board = backend.create(false);
+                if (board == null) {
+                    continue;
+                }
+                session.setSidebar(board);
+                board.showTo(player);
+            }
+            jobs.add(new RenderJob(player, session, board, board.nextSequence(), context));
         }
-        Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-        Objective objective = scoreboard.registerNewObjective("doorhunt", "dummy", colorize(resolvePlaceholders(layout.getTitle(), player, placeholders)));
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        return jobs;
+    }
 
-        List<String> lines = layout.getLines();
-        int score = lines.size();
-        Set<String> used = new HashSet<>();
-        for (String raw : lines) {
-            String line = colorize(resolvePlaceholders(raw, player, placeholders));
-            line = ensureUnique(line, used);
-            objective.getScore(line).setScore(score--);
+    /**
+     * Points every viewer at one shared board, creating it if needed. Tab teams are synced
+     * once for the board rather than once per viewer.
+     */
+    private SidebarBoard attachShared(SidebarBoard board, List<Player> viewers) {
+        if (board == null || board.isRetired()) {
+            board = backend.create(true);
+            if (board == null) {
+                return null;
+            }
+        }
+        for (Player player : viewers) {
+            PlayerSession session = plugin.getSessionManager().get(player);
+            SidebarBoard previous = session.getSidebar();
+            if (previous != null && previous != board && !previous.isShared()) {
+                previous.retire();
+            }
+            session.setSidebar(board);
+            if (!board.isShownTo(player)) {
+                board.showTo(player);
+            }
+        }
+        return board;
+    }
+
+    private void retireUnused(Map<ViewerRole, SidebarBoard> previous, Map<ViewerRole, SidebarBoard> current) {
+        for (Map.Entry<ViewerRole, SidebarBoard> entry : previous.entrySet()) {
+            if (current.get(entry.getKey()) != entry.getValue()) {
+                entry.getValue().retire();
+            }
         }
-        configureTeams(scoreboard, context);
-        TabListService tabListService = plugin.getTabListService();
-        if (tabListService != null) {
-            tabListService.syncScoreboard(scoreboard);
+    }
+
+    /**
+     * A layout is shared when every token is either an internal placeholder or a global
+     * PlaceholderAPI prefix, so all viewers in the group end up with identical content.
+     */
+    private boolean isShared(ScoreboardLayout layout, Set<String> internal) {
+        if (!resolvesPlaceholderApi()) {
+            return true;
+        }
+        for (String token : layout.getTokens()) {
+            if (!internal.contains(token) && !isGlobal(token)) {
+                return false;
+            }
         }
-        player.setScoreboard(scoreboard);
+        return true;
     }
 
-    private void configureTeams(Scoreboard scoreboard, GameInstance context) {
-        if (context == null) {
+    /**
+     * Renders groups on the worker pool and hands the results back to the main thread in one
+     * task. Groups using PlaceholderAPI tokens outside {@code async-placeholders} are rendered
+     * inline instead, as are all groups when async rendering is off.
+     */
+    private void submit(List<RenderGroup> groups, Map<String, String> placeholders, GameSnapshot snapshot) {
+        if (groups.isEmpty()) {
             return;
         }
-        Team seekers = scoreboard.getTeam("seekers");
-        if (seekers == null) {
-            seekers = scoreboard.registerNewTeam("seekers");
+        ExecutorService pool = renderPool;
+        if (!asyncRender || pool == null) {
+            applyAll(renderAll(groups, placeholders), snapshot);
+            return;
+        }
+        List<RenderGroup> offThread = new ArrayList<>(groups.size());
+        List<RenderGroup> inline = new ArrayList<>();
+        for (RenderGroup group : groups) {
+            (isAsyncSafe(group.layout(), placeholders.keySet()) ? offThread : inline).add(group);
+        }
+        if (!inline.isEmpty()) {
+            applyAll(renderAll(inline, placeholders), snapshot);
+        }
+        if (offThread.isEmpty()) {
+            return;
         }
-        seekers.setColor(ChatColor.RED);
-        seekers.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.NEVER);
-        seekers.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER);
+        try {
+            pool.execute(() -> {
+                List<Rendered> rendered = renderAll(offThread, placeholders);
+                if (plugin.isEnabled()) {
+                    Bukkit.getScheduler().runTask(plugin, () -> applyAll(rendered, snapshot));
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // Pool is shutting down; the plugin is being disabled.
+        }
+    }
 
-        Team hiders = scoreboard.getTeam("hiders");
-        if (hiders == null) {
-            hiders = scoreboard.registerNewTeam("hiders");
+    private List<Rendered> renderAll(List<RenderGroup> groups, Map<String, String> placeholders) {
+        List<Rendered> rendered = new ArrayList<>();
+        for (RenderGroup group : groups) {
+            SidebarTemplate template = compile(group.layout(), placeholders);
+            for (RenderJob job : group.jobs()) {
+                rendered.add(new Rendered(job, template.forViewer(job.player())));
+            }
         }
-        hiders.setColor(ChatColor.GREEN);
-        hiders.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.NEVER);
-        hiders.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER);
+        return rendered;
+    }
 
-        for (UUID uuid : context.getSeekers()) {
-            String name = getPlayerName(uuid);
-            if (name != null) {
-                seekers.addEntry(name);
+    private void applyAll(List<Rendered> rendered, GameSnapshot snapshot) {
+        for (Rendered entry : rendered) {
+            RenderJob job = entry.job();
+            if (!job.isCurrent()) {
+                continue;
+            }
+            if (!job.board().apply(job.sequence(), entry.sidebar())) {
+                continue;
+            }
+            if (snapshot != null) {
+                job.board().syncRoster(snapshot.seekers(), snapshot.hiders(), this::getPlayerName);
+            } else {
+                job.board().syncRoster(null, null, this::getPlayerName);
             }
         }
-        for (UUID uuid : context.getHiders()) {
-            String name = getPlayerName(uuid);
-            if (name != null) {
-                hiders.addEntry(name);
+    }
+
+    /**
+     * Resolves everything a role group shares once. Lines that still carry per-player
+     * PlaceholderAPI tokens are left raw and finished per viewer.
+     */
+    private SidebarTemplate compile(ScoreboardLayout layout, Map<String, String> placeholders) {
+        String title = resolveShared(layout.getTitle(), placeholders);
+        boolean titlePerPlayer = isPerPlayer(title);
+        List<String> lines = layout.getLines();
+        String[] resolved = new String[lines.size()];
+        boolean[] perPlayer = new boolean[lines.size()];
+        boolean any = titlePerPlayer;
+        for (int i = 0; i < resolved.length; i++) {
+            String line = resolveShared(lines.get(i), placeholders);
+            perPlayer[i] = isPerPlayer(line);
+            resolved[i] = perPlayer[i] ? line : colorize(line);
+            any |= perPlayer[i];
+        }
+        return new SidebarTemplate(titlePerPlayer ? title : colorize(title), titlePerPlayer, resolved, perPlayer, any);
+    }
+
+    private String resolveShared(String input, Map<String, String> placeholders) {
+        if (input == null) {
+            return "";
+        }
+        String output = input;
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            output = output.replace("%" + entry.getKey() + "%", entry.getValue());
+        }
+        if (resolvesPlaceholderApi() && output.indexOf('%') >= 0 && !isPerPlayer(output)) {
+            output = PlaceholderAPI.setPlaceholders((OfflinePlayer) null, output);
+        }
+        return output;
+    }
+
+    /**
+     * True when the text still holds a PlaceholderAPI token outside the configured
+     * global prefixes, i.e. one whose value can differ between viewers.
+     */
+    private boolean isPerPlayer(String text) {
+        if (!resolvesPlaceholderApi() || text.indexOf('%') < 0) {
+            return false;
+        }
+        Matcher matcher = ScoreboardLayout.TOKEN.matcher(text);
+        while (matcher.find()) {
+            if (!isGlobal(matcher.group(1))) {
+                return true;
             }
         }
+        return false;
     }
 
-    private String getPlayerName(UUID uuid) {
-        Player player = Bukkit.getPlayer(uuid);
-        if (player != null) {
-            return player.getName();
+    /**
+     * PlaceholderAPI is resolved here only when the backend doesn't do it itself.
+     */
+    private boolean resolvesPlaceholderApi() {
+        return placeholderApiHooked && !backend.resolvesPlaceholders();
+    }
+
+    // Most expansions call the Bukkit API, so only allow-listed ones may resolve off the main thread
+    private boolean isAsyncSafe(ScoreboardLayout layout, Set<String> internal) {
+        if (!resolvesPlaceholderApi()) {
+            return true;
+        }
+        for (String token : layout.getTokens()) {
+            if (!internal.contains(token) && !matchesPrefix(token, asyncPlaceholders)) {
+                return false;
+            }
         }
-        return Bukkit.getOfflinePlayer(uuid).getName();
+        return true;
     }
 
-    private String ensureUnique(String line, Set<String> used) {
-        if (line.length() > 32) {
-            line = line.substring(0, 32);
+    private boolean isGlobal(String token) {
+        return matchesPrefix(token, globalPlaceholders);
+    }
+
+    private static boolean matchesPrefix(String token, List<String> prefixes) {
+        String lower = token.toLowerCase(Locale.ROOT);
+        for (String prefix : prefixes) {
+            if (lower.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void shutdown() {
+        sharedBoards.clear();
+        if (backend != null) {
+            backend.shutdown();
+        }
+        ExecutorService pool = renderPool;
+        renderPool = null;
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private String getPlayerName(UUID uuid) {
+        return plugin.getNameCache().getName(uuid);
+    }
+
+    private String ensureUnique(String line, Set<String> used, int maxLength) {
+        if (line.length() > maxLength) {
+            line = line.substring(0, maxLength);
         }
         String result = line;
         while (used.contains(result)) {
@@ -244,23 +612,65 @@ public class ScoreboardService {
         return result;
     }
 
-    private String resolvePlaceholders(String input, Player player, Map<String, String> placeholders) {
-        if (input == null) {
-            return "";
+    private String colorize(String text) {
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+
+    private static final Object LOBBY = "lobby";
+
+    private record RenderGroup(ScoreboardLayout layout, List<RenderJob> jobs) {
+    }
+
+    private record Rendered(RenderJob job, RenderedSidebar sidebar) {
+    }
+
+    private final class SidebarTemplate {
+        private final String title;
+        private final boolean titlePerPlayer;
+        private final String[] lines;
+        private final boolean[] perPlayer;
+        private final int maxLength;
+        private final RenderedSidebar shared;
+
+        private SidebarTemplate(String title, boolean titlePerPlayer, String[] lines, boolean[] perPlayer, boolean anyPerPlayer) {
+            this.title = title;
+            this.titlePerPlayer = titlePerPlayer;
+            this.lines = lines;
+            this.perPlayer = perPlayer;
+            this.maxLength = backend.maxLineLength();
+            this.shared = anyPerPlayer ? null : build(null);
         }
-        String output = input;
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                output = output.replace("%" + entry.getKey() + "%", entry.getValue());
-            }
+
+        RenderedSidebar forViewer(Player player) {
+            return shared != null ? shared : build(player);
         }
-        if (placeholderApiHooked && player != null) {
-            output = PlaceholderAPI.setPlaceholders(player, output);
+
+        private RenderedSidebar build(Player player) {
+            List<String> output = new ArrayList<>(lines.length);
+            Set<String> used = new HashSet<>();
+            for (int i = 0; i < lines.length; i++) {
+                String line = perPlayer[i] ? colorize(PlaceholderAPI.setPlaceholders(player, lines[i])) : lines[i];
+                output.add(ensureUnique(line, used, maxLength));
+            }
+            String resolvedTitle = titlePerPlayer ? colorize(PlaceholderAPI.setPlaceholders(player, title)) : title;
+            return new RenderedSidebar(resolvedTitle, List.copyOf(output));
         }
-        return output;
     }
 
-    private String colorize(String text) {
-        return ChatColor.translateAlternateColorCodes('&', text);
+    /**
+     * One board to update. Shared boards have no player or session and stay current until
+     * they are retired.
+     */
+    private record RenderJob(Player player, PlayerSession session, SidebarBoard board, long sequence, GameInstance context) {
+        /** The viewer is still online, still in the same context and still showing this board. */
+        boolean isCurrent() {
+            if (board.isShared()) {
+                return !board.isRetired();
+            }
+            if (!player.isOnline() || session.getSidebar() != board) {
+                return false;
+            }
+            return context != null ? session.getInstance() == context : session.hasLobbyBoard();
+        }
     }
 }
@@ -0,0 +1,33 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Draws sidebars for {@link ScoreboardService}. All calls happen on the main thread.
+ */
+interface SidebarBackend {
+
+    String getName();
+
+    /**
+     * Creates an empty board; returns null when the backend can't allocate one right now.
+     */
+    SidebarBoard create(boolean shared);
+
+    /**
+     * Takes the player's sidebar back from the plugin.
+     */
+    void hide(Player player);
+
+    /**
+     * True when the backend resolves PlaceholderAPI tokens itself, per viewer.
+     */
+    boolean resolvesPlaceholders();
+
+    /**
+     * Longest line the backend can show; longer lines are cut.
+     */
+    int maxLineLength();
+
+    void shutdown();
+}
@@ -0,0 +1,71 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A long-lived sidebar owned by a {@link SidebarBackend}. Renders are applied in
+ * sequence order; older ones that finish late are dropped. Must only be touched on
+ * the main thread.
+ */
+public abstract class SidebarBoard {
+    private final boolean shared;
+    private volatile boolean retired;
+    private long issuedSequence;
+    private long appliedSequence = -1;
+
+    protected SidebarBoard(boolean shared) {
+        this.shared = shared;
+    }
+
+    /**
+     * Shared boards are shown to every viewer of one context whose content is identical.
+     */
+    boolean isShared() {
+        return shared;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    void retire() {
+        retired = true;
+        dispose();
+    }
+
+    long nextSequence() {
+        return ++issuedSequence;
+    }
+
+    /**
+     * Applies a render if it is newer than the last one applied. Returns false for stale renders.
+     */
+    boolean apply(long sequence, RenderedSidebar rendered) {
+        if (sequence <= appliedSequence) {
+            return false;
+        }
+        appliedSequence = sequence;
+        render(rendered);
+        return true;
+    }
+
+    /**
+     * Syncs the seeker/hider teams for this board, which also hide participants' nametags.
+     * A null roster (lobby) removes them.
+     */
+    void syncRoster(Set<UUID> seekers, Set<UUID> hiders, Function<UUID, String> names) {
+    }
+
+    protected abstract void render(RenderedSidebar rendered);
+
+    abstract boolean isShownTo(Player player);
+
+    abstract void showTo(Player player);
+
+    protected void dispose() {
+    }
+}
@@ -0,0 +1,331 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Level;
+
+/**
+ * Drives TAB's own scoreboard feature through reflection so TAB does the packet diffing,
+ * team handling and per-viewer PlaceholderAPI refreshes. Only picked when TAB is loaded
+ * and its scoreboard feature is enabled. Participants' nametags are hidden through TAB's
+ * nametag manager, or a team on the main scoreboard when that feature is off.
+ */
+class TabSidebarBackend implements SidebarBackend {
+    private static final String HIDDEN_TEAM = "doorhunt_hidden";
+
+    private final DoorHunt plugin;
+    private final Object api;
+    private final Object manager;
+    private final Method getPlayer;
+    private final Method createScoreboard;
+    private final Method showScoreboard;
+    private final Method resetScoreboard;
+    private final Method getActiveScoreboard;
+    private final Method setTitle;
+    private final Method getLines;
+    private final Method addLine;
+    private final Method removeLine;
+    private final Method setText;
+    private final Method unregister;
+    private final Object nameTags;
+    private final Method hideNameTag;
+    private final Method showNameTag;
+    private final List<Board> boards = new ArrayList<>();
+    // Participants whose nametag is hidden, keyed to the board whose roster hid it
+    private final Map<UUID, Board> hiddenTags = new HashMap<>();
+    private int counter;
+
+    private TabSidebarBackend(DoorHunt plugin, Object api, Object manager, Object nameTags) throws ReflectiveOperationException {
+        this.plugin = plugin;
+        this.api = api;
+        this.manager = manager;
+        this.nameTags = nameTags;
+        Class<?> tabPlayer = Class.forName("me.neznamy.tab.api.TabPlayer");
+        Class<?> managerClass = Class.forName("me.neznamy.tab.api.scoreboard.ScoreboardManager");
+        Class<?> scoreboardClass = Class.forName("me.neznamy.tab.api.scoreboard.Scoreboard");
+        Class<?> lineClass = Class.forName("me.neznamy.tab.api.scoreboard.Line");
+        this.getPlayer = Class.forName("me.neznamy.tab.api.TabAPI").getMethod("getPlayer", UUID.class);
+        this.createScoreboard = managerClass.getMethod("createScoreboard", String.class, String.class, List.class);
+        this.showScoreboard = managerClass.getMethod("showScoreboard", tabPlayer, scoreboardClass);
+        this.resetScoreboard = managerClass.getMethod("resetScoreboard", tabPlayer);
+        this.getActiveScoreboard = findMethod(managerClass, "getActiveScoreboard", tabPlayer);
+        this.setTitle = scoreboardClass.getMethod("setTitle", String.class);
+        this.getLines = scoreboardClass.getMethod("getLines");
+        this.addLine = scoreboardClass.getMethod("addLine", String.class);
+        this.removeLine = scoreboardClass.getMethod("removeLine", int.class);
+        this.setText = lineClass.getMethod("setText", String.class);
+        this.unregister = findMethod(scoreboardClass, "unregister", null);
+        Class<?> nameTagClass = nameTags != null ? Class.forName("me.neznamy.tab.api.nametag.NameTagManager") : null;
+        this.hideNameTag = nameTagClass != null ? nameTagClass.getMethod("hideNameTag", tabPlayer) : null;
+        this.showNameTag = nameTagClass != null ? nameTagClass.getMethod("showNameTag", tabPlayer) : null;
+    }
+
+    /**
+     * Returns the backend, or null when TAB or its scoreboard feature isn't available.
+     */
+    static TabSidebarBackend tryCreate(DoorHunt plugin) {
+        if (!plugin.getServer().getPluginManager().isPluginEnabled("TAB")) {
+            return null;
+        }
+        try {
+            Class<?> apiClass = Class.forName("me.neznamy.tab.api.TabAPI");
+            Object api = apiClass.getMethod("getInstance").invoke(null);
+            if (api == null) {
+                return null;
+            }
+            Object manager = apiClass.getMethod("getScoreboardManager").invoke(api);
+            if (manager == null) {
+                plugin.getLogger().info("TAB found but its scoreboard feature is disabled, using Bukkit sidebars.");
+                return null;
+            }
+            return new TabSidebarBackend(plugin, api, manager, findNameTags(apiClass, api));
+        } catch (Throwable ex) {
+            plugin.getLogger().log(Level.FINE, "TAB scoreboard API not available, using Bukkit sidebars.", ex);
+            return null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "TAB";
+    }
+
+    @Override
+    public SidebarBoard create(boolean shared) {
+        try {
+            Object handle = createScoreboard.invoke(manager, "doorhunt-" + (++counter), "", new ArrayList<String>());
+            Board board = new Board(handle, shared);
+            boards.add(board);
+            return board;
+        } catch (Throwable ex) {
+            plugin.getLogger().log(Level.WARNING, "Failed to create TAB scoreboard", ex);
+            return null;
+        }
+    }
+
+    @Override
+    public void hide(Player player) {
+        Object tabPlayer = tabPlayer(player);
+        if (tabPlayer == null) {
+            return;
+        }
+        try {
+            resetScoreboard.invoke(manager, tabPlayer);
+        } catch (Throwable ex) {
+            plugin.getLogger().log(Level.FINE, "Failed to reset TAB scoreboard for " + player.getName(), ex);
+        }
+    }
+
+    @Override
+    public boolean resolvesPlaceholders() {
+        return true;
+    }
+
+    @Override
+    public int maxLineLength() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void shutdown() {
+        for (Board board : new ArrayList<>(boards)) {
+            board.dispose();
+        }
+        boards.clear();
+        for (UUID uuid : new ArrayList<>(hiddenTags.keySet())) {
+            setNameTagHidden(uuid, false);
+        }
+        hiddenTags.clear();
+        if (nameTags == null) {
+            Team team = Bukkit.getScoreboardManager().getMainScoreboard().getTeam(HIDDEN_TEAM);
+            if (team != null) {
+                team.unregister();
+            }
+        }
+    }
+
+    private static Object findNameTags(Class<?> apiClass, Object api) {
+        try {
+            return apiClass.getMethod("getNameTagManager").invoke(api);
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    private void setNameTagHidden(UUID uuid, boolean hidden) {
+        if (nameTags != null) {
+            Player player = Bukkit.getPlayer(uuid);
+            Object tabPlayer = player != null ? tabPlayer(player) : null;
+            if (tabPlayer == null) {
+                return;
+            }
+            try {
+                (hidden ? hideNameTag : showNameTag).invoke(nameTags, tabPlayer);
+            } catch (Throwable ex) {
+                plugin.getLogger().log(Level.FINE, "Failed to update TAB nametag of " + player.getName(), ex);
+            }
+            return;
+        }
+        String name = plugin.getNameCache().getName(uuid);
+        if (name == null) {
+            return;
+        }
+        Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
+        Team team = main.getTeam(HIDDEN_TEAM);
+        if (team == null) {
+            if (!hidden) {
+                return;
+            }
+            team = main.registerNewTeam(HIDDEN_TEAM);
+            team.setOption(Team.Option.NAME_TAG_VISIBILITY, Team.OptionStatus.NEVER);
+            team.setOption(Team.Option.COLLISION_RULE, Team.OptionStatus.NEVER);
+        }
+        if (hidden) {
+            team.addEntry(name);
+        } else {
+            team.removeEntry(name);
+        }
+    }
+
+    private Object tabPlayer(Player player) {
+        try {
+            return getPlayer.invoke(api, player.getUniqueId());
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?> parameter) {
+        try {
+            return parameter == null ? type.getMethod(name) : type.getMethod(name, parameter);
+        } catch (NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+
+    private final class Board extends SidebarBoard {
+        private final Object handle;
+        private final Set<UUID> viewers = new HashSet<>();
+        private String title = "";
+        private final List<String> lines = new ArrayList<>();
+
+        private Board(Object handle, boolean shared) {
+            super(shared);
+            this.handle = handle;
+        }
+
+        @Override
+        protected void render(RenderedSidebar rendered) {
+            try {
+                if (!Objects.equals(title, rendered.title())) {
+                    title = rendered.title();
+                    setTitle.invoke(handle, title);
+                }
+                List<String> next = rendered.lines();
+                List<?> current = (List<?>) getLines.invoke(handle);
+                int common = Math.min(lines.size(), next.size());
+                for (int i = 0; i < common; i++) {
+                    String line = next.get(i);
+                    if (!line.equals(lines.get(i))) {
+                        setText.invoke(current.get(i), line);
+                        lines.set(i, line);
+                    }
+                }
+                for (int i = lines.size() - 1; i >= next.size(); i--) {
+                    removeLine.invoke(handle, i);
+                    lines.remove(i);
+                }
+                for (int i = lines.size(); i < next.size(); i++) {
+                    addLine.invoke(handle, next.get(i));
+                    lines.add(next.get(i));
+                }
+            } catch (Throwable ex) {
+                plugin.getLogger().log(Level.WARNING, "Failed to update TAB scoreboard", ex);
+            }
+        }
+
+        @Override
+        boolean isShownTo(Player player) {
+            if (getActiveScoreboard == null) {
+                return viewers.contains(player.getUniqueId());
+            }
+            Object tabPlayer = tabPlayer(player);
+            try {
+                return tabPlayer != null && getActiveScoreboard.invoke(manager, tabPlayer) == handle;
+            } catch (Throwable ex) {
+                return false;
+            }
+        }
+
+        @Override
+        void showTo(Player player) {
+            Object tabPlayer = tabPlayer(player);
+            if (tabPlayer == null) {
+                return;
+            }
+            try {
+                showScoreboard.invoke(manager, tabPlayer, handle);
+                viewers.add(player.getUniqueId());
+            } catch (Throwable ex) {
+                plugin.getLogger().log(Level.FINE, "Failed to show TAB scoreboard to " + player.getName(), ex);
+            }
+        }
+
+        // Each participant's tag stays hidden while some board's roster still holds them
+        @Override
+        void syncRoster(Set<UUID> seekers, Set<UUID> hiders, Function<UUID, String> names) {
+            Set<UUID> wanted = new HashSet<>();
+            if (seekers != null) {
+                wanted.addAll(seekers);
+            }
+            if (hiders != null) {
+                wanted.addAll(hiders);
+            }
+            for (UUID uuid : wanted) {
+                if (hiddenTags.put(uuid, this) == null) {
+                    setNameTagHidden(uuid, true);
+                }
+            }
+            revealOwned(wanted);
+        }
+
+        private void revealOwned(Set<UUID> keep) {
+            hiddenTags.entrySet().removeIf(entry -> {
+                if (entry.getValue() != this || keep.contains(entry.getKey())) {
+                    return false;
+                }
+                setNameTagHidden(entry.getKey(), false);
+                return true;
+            });
+        }
+
+        @Override
+        protected void dispose() {
+            revealOwned(Set.of());
+            boards.remove(this);
+            viewers.clear();
+            if (unregister == null) {
+                return;
+            }
+            try {
+                unregister.invoke(handle);
+            } catch (Throwable ex) {
+                plugin.getLogger().log(Level.FINE, "Failed to unregister TAB scoreboard", ex);
+            }
+        }
+    }
+}
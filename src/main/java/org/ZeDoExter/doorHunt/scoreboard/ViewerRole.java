@@ -0,0 +1,30 @@
+package org.ZeDoExter.doorHunt.scoreboard;
+
+import org.ZeDoExter.doorHunt.game.GameSnapshot;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Which side of the game a sidebar viewer is on. Players without a team yet (waiting,
+ * countdown) count as spectators.
+ */
+public enum ViewerRole {
+    SEEKER,
+    HIDER,
+    SPECTATOR;
+
+    public static ViewerRole of(GameSnapshot snapshot, UUID uuid) {
+        if (snapshot.isSeeker(uuid)) {
+            return SEEKER;
+        }
+        if (snapshot.isHider(uuid)) {
+            return HIDER;
+        }
+        return SPECTATOR;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
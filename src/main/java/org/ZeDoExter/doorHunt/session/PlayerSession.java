@@ -0,0 +1,154 @@
+package org.ZeDoExter.doorHunt.session;
+
+import net.kyori.adventure.text.Component;
+import org.ZeDoExter.doorHunt.game.ArenaSetting;
+import org.ZeDoExter.doorHunt.game.GameArena;
+import org.ZeDoExter.doorHunt.game.GameInstance;
+import org.ZeDoExter.doorHunt.scoreboard.SidebarBoard;
+import org.ZeDoExter.doorHunt.util.TabListService;
+
+import java.util.UUID;
+
+/**
+ * Everything the plugin tracks for one online player. Created on join, destroyed on quit,
+ * and reachable with a single lookup through {@link SessionManager}.
+ */
+public class PlayerSession {
+    private final UUID uuid;
+    private volatile String name;
+    private volatile GameInstance instance;
+    private volatile TabListService.Role role;
+    private volatile boolean lobbyBoard;
+    private SidebarBoard sidebar;
+    private Component originalListName;
+    private String originalLegacyName;
+    private int originalViewDistance;
+    private int originalSendDistance;
+    private volatile GameArena settingsArena;
+    private volatile GameArena promptArena;
+    private volatile ArenaSetting promptSetting;
+
+    PlayerSession(UUID uuid, String name) {
+        this.uuid = uuid;
+        this.name = name;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public GameInstance getInstance() {
+        return instance;
+    }
+
+    public void setInstance(GameInstance instance) {
+        this.instance = instance;
+    }
+
+    public boolean isInGame() {
+        return instance != null;
+    }
+
+    public TabListService.Role getRole() {
+        return role;
+    }
+
+    public void setRole(TabListService.Role role) {
+        this.role = role;
+    }
+
+    public boolean hasLobbyBoard() {
+        return lobbyBoard;
+    }
+
+    public void setLobbyBoard(boolean lobbyBoard) {
+        this.lobbyBoard = lobbyBoard;
+    }
+
+    public SidebarBoard getSidebar() {
+        return sidebar;
+    }
+
+    public void setSidebar(SidebarBoard sidebar) {
+        this.sidebar = sidebar;
+    }
+
+    public Component getOriginalListName() {
+        return originalListName;
+    }
+
+    public void setOriginalListName(Component originalListName) {
+        this.originalListName = originalListName;
+    }
+
+    public String getOriginalLegacyName() {
+        return originalLegacyName;
+    }
+
+    public void setOriginalLegacyName(String originalLegacyName) {
+        this.originalLegacyName = originalLegacyName;
+    }
+
+    /**
+     * Whether view distances were changed for a game and still need restoring.
+     */
+    public boolean hasViewDistanceOverride() {
+        return originalViewDistance > 0;
+    }
+
+    public int getOriginalViewDistance() {
+        return originalViewDistance;
+    }
+
+    public int getOriginalSendDistance() {
+        return originalSendDistance;
+    }
+
+    public void rememberViewDistance(int viewDistance, int sendDistance) {
+        this.originalViewDistance = viewDistance;
+        this.originalSendDistance = sendDistance;
+    }
+
+    public void clearViewDistance() {
+        this.originalViewDistance = 0;
+        this.originalSendDistance = 0;
+    }
+
+    public GameArena getSettingsArena() {
+        return settingsArena;
+    }
+
+    public void setSettingsArena(GameArena settingsArena) {
+        this.settingsArena = settingsArena;
+    }
+
+    public GameArena getPromptArena() {
+        return promptArena;
+    }
+
+    public ArenaSetting getPromptSetting() {
+        return promptSetting;
+    }
+
+    public boolean isAwaitingInput() {
+        return promptSetting != null;
+    }
+
+    public void beginPrompt(GameArena arena, ArenaSetting setting) {
+        this.promptArena = arena;
+        this.promptSetting = setting;
+    }
+
+    public void clearPrompt() {
+        this.promptSetting = null;
+        this.promptArena = null;
+    }
+}
@@ -0,0 +1,51 @@
+package org.ZeDoExter.doorHunt.session;
+
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SessionManager {
+    private final Map<UUID, PlayerSession> sessions = new ConcurrentHashMap<>();
+
+    public PlayerSession create(Player player) {
+        PlayerSession session = sessions.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerSession(uuid, player.getName()));
+        session.setName(player.getName());
+        return session;
+    }
+
+    /**
+     * Returns the player's session, creating it if the join event hasn't been seen yet
+     * (e.g. players already online when the plugin enabled). Players that already quit
+     * get a detached session so late callbacks can't leak entries.
+     */
+    public PlayerSession get(Player player) {
+        PlayerSession session = sessions.get(player.getUniqueId());
+        if (session != null) {
+            return session;
+        }
+        if (!player.isOnline()) {
+            return new PlayerSession(player.getUniqueId(), player.getName());
+        }
+        return create(player);
+    }
+
+    public PlayerSession find(UUID uuid) {
+        return sessions.get(uuid);
+    }
+
+    public PlayerSession destroy(UUID uuid) {
+        return sessions.remove(uuid);
+    }
+
+    public Collection<PlayerSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+}
@@ -0,0 +1,75 @@
+package org.ZeDoExter.doorHunt.util;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One locale's messages, compiled once on reload. Paths missing from this bundle
+ * are looked up in the parent (the default language.yml bundle).
+ */
+final class LanguageBundle {
+    private final String locale;
+    private final String prefix;
+    private final Map<String, List<MessageTemplate>> messages;
+    private final Map<String, MessageTemplate> fallbacks = new ConcurrentHashMap<>();
+    private final LanguageBundle parent;
+
+    private LanguageBundle(String locale, String prefix, Map<String, List<MessageTemplate>> messages, LanguageBundle parent) {
+        this.locale = locale;
+        this.prefix = prefix;
+        this.messages = messages;
+        this.parent = parent;
+    }
+
+    static LanguageBundle compile(String locale, FileConfiguration config, LanguageBundle parent) {
+        String defaultPrefix = parent != null ? parent.prefix : "&8[&aDoor Hunt&8] &7";
+        String prefix = config.getString("prefix", defaultPrefix);
+        Map<String, List<MessageTemplate>> messages = new HashMap<>();
+        for (String path : config.getKeys(true)) {
+            if (path.equals("prefix") || config.isConfigurationSection(path)) {
+                continue;
+            }
+            List<String> raw;
+            if (config.isList(path)) {
+                raw = config.getStringList(path);
+            } else {
+                String value = config.getString(path);
+                raw = value != null ? List.of(value) : List.of();
+            }
+            if (raw.isEmpty()) {
+                continue;
+            }
+            List<MessageTemplate> templates = new ArrayList<>(raw.size());
+            for (String line : raw) {
+                templates.add(MessageTemplate.compile(prefix + line));
+            }
+            messages.put(path, List.copyOf(templates));
+        }
+        return new LanguageBundle(locale, prefix, messages, parent);
+    }
+
+    String getLocale() {
+        return locale;
+    }
+
+    String getPrefix() {
+        return prefix;
+    }
+
+    List<MessageTemplate> get(String path) {
+        List<MessageTemplate> templates = messages.get(path);
+        if (templates == null && parent != null) {
+            return parent.get(path);
+        }
+        return templates;
+    }
+
+    MessageTemplate fallback(String raw) {
+        return fallbacks.computeIfAbsent(raw != null ? raw : "", value -> MessageTemplate.compile(prefix + value));
+    }
+}
@@ -1,18 +1,27 @@
 package org.ZeDoExter.doorHunt.util;
 
 import org.ZeDoExter.doorHunt.DoorHunt;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class LanguageManager {
+    private static final String LANGUAGE_FOLDER = "languages";
+
     private final DoorHunt plugin;
-    private FileConfiguration config;
-    private String prefix;
+    private final Map<String, LanguageBundle> bundles = new ConcurrentHashMap<>();
+    private final Map<String, LanguageBundle> localeCache = new ConcurrentHashMap<>();
+    private volatile LanguageBundle defaultBundle;
+    private volatile boolean perPlayer;
 
     public LanguageManager(DoorHunt plugin) {
         this.plugin = plugin;
@@ -20,49 +29,115 @@ public class LanguageManager {
 
     public void reload() {
         File file = new File(plugin.getDataFolder(), "language.yml");
-        config = YamlConfiguration.loadConfiguration(file);
-        prefix = config.getString("prefix", "&8[&aDoor Hunt&8] &7");
+        LanguageBundle fallback = LanguageBundle.compile("default", YamlConfiguration.loadConfiguration(file), null);
+        bundles.clear();
+        localeCache.clear();
+        File folder = new File(plugin.getDataFolder(), LANGUAGE_FOLDER);
+        File[] files = folder.listFiles((dir, name) -> name.toLowerCase(Locale.ROOT).endsWith(".yml"));
+        if (files != null) {
+            for (File localeFile : files) {
+                String name = localeFile.getName();
+                String locale = name.substring(0, name.length() - 4).toLowerCase(Locale.ROOT);
+                bundles.put(locale, LanguageBundle.compile(locale, YamlConfiguration.loadConfiguration(localeFile), fallback));
+            }
+        }
+        defaultBundle = fallback;
+        perPlayer = plugin.getConfig().getBoolean("settings.per-player-language", true);
+        if (!bundles.isEmpty()) {
+            plugin.getLogger().info("Loaded " + bundles.size() + " language bundle(s): " + String.join(", ", bundles.keySet()));
+        }
     }
 
     public String random(String path, Map<String, String> placeholders, String fallback) {
-        ensureLoaded();
-        List<String> options = config.getStringList(path);
-        String value;
-        if (options == null || options.isEmpty()) {
-            value = fallback;
-        } else {
-            value = options.get(ThreadLocalRandom.current().nextInt(options.size()));
-        }
-        return plugin.color(getPrefix() + apply(value != null ? value : fallback, placeholders));
+        return pick(bundle(), path, fallback).render(placeholders);
     }
 
     public String format(String path, Map<String, String> placeholders, String fallback) {
-        ensureLoaded();
-        String value = config.getString(path, fallback);
-        return plugin.color(getPrefix() + apply(value != null ? value : fallback, placeholders));
+        return first(bundle(), path, fallback).render(placeholders);
     }
 
-    public String getPrefix() {
-        ensureLoaded();
-        return prefix != null ? prefix : "";
+    public String format(Player player, String path, Map<String, String> placeholders, String fallback) {
+        return first(bundle(player), path, fallback).render(placeholders);
     }
 
-    private String apply(String message, Map<String, String> placeholders) {
-        if (message == null) {
-            return "";
+    /**
+     * Sends a random entry of {@code path} to every player, rendering it once per locale
+     * present in the audience instead of once per player.
+     */
+    public void broadcastRandom(Collection<? extends Player> audience, String path, Map<String, String> placeholders, String fallback) {
+        for (Map.Entry<LanguageBundle, List<Player>> group : groupByBundle(audience).entrySet()) {
+            String message = pick(group.getKey(), path, fallback).render(placeholders);
+            for (Player player : group.getValue()) {
+                player.sendMessage(message);
+            }
         }
-        String output = message;
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                output = output.replace("{" + entry.getKey() + "}", entry.getValue());
+    }
+
+    public void broadcastFormat(Collection<? extends Player> audience, String path, Map<String, String> placeholders, String fallback) {
+        for (Map.Entry<LanguageBundle, List<Player>> group : groupByBundle(audience).entrySet()) {
+            String message = first(group.getKey(), path, fallback).render(placeholders);
+            for (Player player : group.getValue()) {
+                player.sendMessage(message);
+            }
+        }
+    }
+
+    public String getPrefix() {
+        return bundle().getPrefix();
+    }
+
+    private Map<LanguageBundle, List<Player>> groupByBundle(Collection<? extends Player> audience) {
+        Map<LanguageBundle, List<Player>> groups = new IdentityHashMap<>();
+        for (Player player : audience) {
+            if (player != null) {
+                groups.computeIfAbsent(bundle(player), key -> new ArrayList<>()).add(player);
             }
         }
-        return output;
+        return groups;
+    }
+
+    private MessageTemplate pick(LanguageBundle bundle, String path, String fallback) {
+        List<MessageTemplate> options = bundle.get(path);
+        if (options == null || options.isEmpty()) {
+            return bundle.fallback(fallback);
+        }
+        return options.get(ThreadLocalRandom.current().nextInt(options.size()));
     }
 
-    private void ensureLoaded() {
-        if (config == null) {
+    private MessageTemplate first(LanguageBundle bundle, String path, String fallback) {
+        List<MessageTemplate> options = bundle.get(path);
+        if (options == null || options.isEmpty()) {
+            return bundle.fallback(fallback);
+        }
+        return options.get(0);
+    }
+
+    private LanguageBundle bundle() {
+        LanguageBundle bundle = defaultBundle;
+        if (bundle == null) {
             reload();
+            bundle = defaultBundle;
         }
+        return bundle;
+    }
+
+    private LanguageBundle bundle(Player player) {
+        LanguageBundle fallback = bundle();
+        if (player == null || !perPlayer || bundles.isEmpty()) {
+            return fallback;
+        }
+        Locale locale = player.locale();
+        if (locale == null) {
+            return fallback;
+        }
+        String tag = locale.toString().toLowerCase(Locale.ROOT);
+        return localeCache.computeIfAbsent(tag, key -> {
+            LanguageBundle exact = bundles.get(key);
+            if (exact != null) {
+                return exact;
+            }
+            LanguageBundle language = bundles.get(locale.getLanguage().toLowerCase(Locale.ROOT));
+            return language != null ? language : fallback;
+        });
     }
 }
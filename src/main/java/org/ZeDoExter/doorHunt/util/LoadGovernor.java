@@ -0,0 +1,193 @@
+package org.ZeDoExter.doorHunt.util;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Samples Paper's average tick time once a second and stretches the refresh interval of
+ * cosmetic output (sidebars, lobby boards, tab team sync) while the server is under load.
+ * Cosmetic effects ask {@link #allow(Cosmetic)} first and are throttled or dropped above
+ * their configured MSPT levels; essential work (state changes, teleports, kills) never does.
+ */
+public class LoadGovernor {
+
+    public enum Cosmetic {
+        FIREWORKS("40:45"),
+        PARTICLES("42:48"),
+        SOUNDS("45:50"),
+        CHAT("48:55");
+
+        private final String defaults;
+
+        Cosmetic(String defaults) {
+            this.defaults = defaults;
+        }
+
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final DoorHunt plugin;
+    private final EnumMap<Cosmetic, double[]> sheddingLevels = new EnumMap<>(Cosmetic.class);
+    private final long[] attempts = new long[Cosmetic.values().length];
+    private final long[] shed = new long[Cosmetic.values().length];
+    private boolean sheddingEnabled;
+    private int throttleEvery = 2;
+    private BukkitTask sampler;
+    private boolean enabled;
+    private int baseInterval = 20;
+    private double recoveryMargin = 3.0;
+    private double[] thresholds = new double[0];
+    private int[] intervals = new int[0];
+    private volatile double mspt;
+    private volatile int level;
+
+    public LoadGovernor(DoorHunt plugin) {
+        this.plugin = plugin;
+    }
+
+    public void reload() {
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("settings.adaptive-refresh");
+        enabled = section == null || section.getBoolean("enabled", true);
+        baseInterval = section != null ? Math.max(1, section.getInt("base-interval", 20)) : 20;
+        recoveryMargin = section != null ? Math.max(0.0, section.getDouble("recovery-margin", 3.0)) : 3.0;
+        List<String> levels = section != null ? section.getStringList("levels") : List.of("40:40", "45:60", "50:100");
+        List<double[]> parsed = new ArrayList<>();
+        for (String raw : levels) {
+            double[] entry = parseLevel(raw);
+            if (entry != null) {
+                parsed.add(entry);
+            }
+        }
+        parsed.sort((a, b) -> Double.compare(a[0], b[0]));
+        thresholds = new double[parsed.size()];
+        intervals = new int[parsed.size()];
+        for (int i = 0; i < parsed.size(); i++) {
+            thresholds[i] = parsed.get(i)[0];
+            intervals[i] = Math.max(baseInterval, (int) parsed.get(i)[1]);
+        }
+        level = 0;
+
+        ConfigurationSection shedding = plugin.getConfig().getConfigurationSection("settings.load-shedding");
+        sheddingEnabled = shedding == null || shedding.getBoolean("enabled", true);
+        throttleEvery = shedding != null ? Math.max(2, shedding.getInt("throttle-every", 2)) : 2;
+        sheddingLevels.clear();
+        for (Cosmetic kind : Cosmetic.values()) {
+            String raw = shedding != null ? shedding.getString(kind.key(), kind.defaults) : kind.defaults;
+            double[] entry = parseLevel(raw);
+            sheddingLevels.put(kind, entry != null ? entry : parseLevel(kind.defaults));
+        }
+        if (sampler == null) {
+            sampler = Bukkit.getScheduler().runTaskTimer(plugin, this::sample, 20L, 20L);
+        }
+    }
+
+    private double[] parseLevel(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        int split = raw.indexOf(':');
+        if (split <= 0) {
+            return null;
+        }
+        try {
+            return new double[]{Double.parseDouble(raw.substring(0, split).trim()), Double.parseDouble(raw.substring(split + 1).trim())};
+        } catch (NumberFormatException ex) {
+            plugin.getLogger().warning("Invalid load level '" + raw + "', expected <number>:<number>.");
+            return null;
+        }
+    }
+
+    private void sample() {
+        double current = Bukkit.getAverageTickTime();
+        mspt = current;
+        if (!enabled) {
+            level = 0;
+            return;
+        }
+        int next = level;
+        while (next < thresholds.length && current >= thresholds[next]) {
+            next++;
+        }
+        while (next > 0 && current < thresholds[next - 1] - recoveryMargin) {
+            next--;
+        }
+        level = next;
+    }
+
+    /**
+     * Ticks between cosmetic refreshes at the current load level.
+     */
+    public int getRefreshInterval() {
+        int current = level;
+        return current == 0 ? baseInterval : intervals[current - 1];
+    }
+
+    /**
+     * Delay before a coalesced update runs: next tick normally, a full interval under load.
+     */
+    public long getDeferDelay() {
+        return level == 0 ? 1L : getRefreshInterval();
+    }
+
+    public boolean isThrottled() {
+        return level > 0;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public double getMspt() {
+        return mspt;
+    }
+
+    /**
+     * Whether a cosmetic effect may run now. Between a kind's throttle and skip levels only
+     * every {@code throttle-every}th request passes; above the skip level none do. Dropped
+     * requests are counted for {@code /dh perf}.
+     */
+    public boolean allow(Cosmetic kind) {
+        if (!sheddingEnabled) {
+            return true;
+        }
+        double[] levels = sheddingLevels.get(kind);
+        double current = mspt;
+        if (levels == null || current < levels[0]) {
+            return true;
+        }
+        int index = kind.ordinal();
+        if (current < levels[1] && attempts[index]++ % throttleEvery == 0) {
+            return true;
+        }
+        shed[index]++;
+        return false;
+    }
+
+    public long getShedCount(Cosmetic kind) {
+        return shed[kind.ordinal()];
+    }
+
+    public long getTotalShed() {
+        long total = 0;
+        for (long count : shed) {
+            total += count;
+        }
+        return total;
+    }
+
+    public void shutdown() {
+        if (sampler != null) {
+            sampler.cancel();
+            sampler = null;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.ZeDoExter.doorHunt.util;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message split once into literal segments and {placeholder} slots, so rendering
+ * only concatenates instead of re-scanning and re-colorizing the whole string.
+ */
+final class MessageTemplate {
+    private final String[] literals;
+    private final String[] keys;
+
+    private MessageTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+    }
+
+    static MessageTemplate compile(String raw) {
+        String input = raw != null ? raw : "";
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int start = 0;
+        int open = input.indexOf('{');
+        while (open >= 0) {
+            int close = input.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            literals.add(colorize(input.substring(start, open)));
+            keys.add(input.substring(open + 1, close));
+            start = close + 1;
+            open = input.indexOf('{', start);
+        }
+        literals.add(colorize(input.substring(start)));
+        return new MessageTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]));
+    }
+
+    String render(Map<String, String> placeholders) {
+        if (keys.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(64);
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            String value = placeholders != null ? placeholders.get(keys[i]) : null;
+            if (value != null) {
+                builder.append(colorize(value));
+            } else {
+                builder.append('{').append(keys[i]).append('}');
+            }
+        }
+        builder.append(literals[keys.length]);
+        return builder.toString();
+    }
+
+    private static String colorize(String text) {
+        return ChatColor.translateAlternateColorCodes('&', text);
+    }
+}
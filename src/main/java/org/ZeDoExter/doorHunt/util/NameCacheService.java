@@ -0,0 +1,85 @@
+package org.ZeDoExter.doorHunt.util;
+
+import org.ZeDoExter.doorHunt.DoorHunt;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Bounded UUID → name cache so name lookups never fall back to
+ * {@code Bukkit.getOfflinePlayer} (usercache / disk) on the main thread.
+ * Misses return null and are loaded asynchronously for the next lookup.
+ */
+public class NameCacheService {
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final DoorHunt plugin;
+    private final Map<UUID, String> names;
+    private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+    public NameCacheService(DoorHunt plugin) {
+        this.plugin = plugin;
+        int capacity = Math.max(16, plugin.getConfig().getInt("settings.name-cache-size", DEFAULT_CAPACITY));
+        this.names = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public void remember(UUID uuid, String name) {
+        if (uuid == null || name == null) {
+            return;
+        }
+        synchronized (names) {
+            names.put(uuid, name);
+        }
+    }
+
+    public String getName(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        Player online = Bukkit.getPlayer(uuid);
+        if (online != null) {
+            String name = online.getName();
+            remember(uuid, name);
+            return name;
+        }
+        String cached;
+        synchronized (names) {
+            cached = names.get(uuid);
+        }
+        if (cached == null) {
+            loadAsync(uuid);
+        }
+        return cached;
+    }
+
+    public String getName(UUID uuid, String fallback) {
+        String name = getName(uuid);
+        return name != null ? name : fallback;
+    }
+
+    private void loadAsync(UUID uuid) {
+        if (!plugin.isEnabled() || !loading.add(uuid)) {
+            return;
+        }
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                remember(uuid, Bukkit.getOfflinePlayer(uuid).getName());
+            } catch (Throwable ex) {
+                plugin.getLogger().log(Level.FINE, "Failed to resolve name for " + uuid, ex);
+            } finally {
+                loading.remove(uuid);
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package org.ZeDoExter.doorHunt.util;
 
+import me.zombie_striker.qg.api.QualityArmory;
 import org.ZeDoExter.doorHunt.DoorHunt;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -10,6 +11,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -17,6 +19,9 @@ public class QualityArmoryHook {
     private final DoorHunt plugin;
     private boolean qualityArmoryPresent;
     private List<String> loadoutCommands = defaultCommands();
+    private List<KitEntry> kitEntries = defaultKit();
+    private List<ItemStack> kitTemplates;
+    private boolean kitUnavailable;
 
     public QualityArmoryHook(DoorHunt plugin) {
         this.plugin = plugin;
@@ -38,9 +43,88 @@ public class QualityArmoryHook {
                     .map(String::trim)
                     .collect(Collectors.toCollection(ArrayList::new));
         }
+
+        List<String> kit = section != null ? section.getStringList("kit") : null;
+        if (section != null && !section.contains("kit") && configured != null && !configured.isEmpty()) {
+            // Older configs only list commands; keep honouring them as-is.
+            kitEntries = new ArrayList<>();
+        } else if (kit == null || kit.isEmpty()) {
+            kitEntries = defaultKit();
+        } else {
+            kitEntries = kit.stream()
+                    .map(KitEntry::parse)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        kitTemplates = null;
+        kitUnavailable = false;
     }
 
     public void giveSeekerLoadout(Player player) {
+        List<ItemStack> templates = resolveKit();
+        if (templates != null) {
+            for (ItemStack template : templates) {
+                player.getInventory().addItem(template.clone());
+            }
+            return;
+        }
+        dispatchLoadoutCommands(player);
+    }
+
+    /**
+     * Resolves the kit into ItemStack templates once. Entries are looked up through the
+     * QualityArmory API when it is enabled, and otherwise as vanilla materials. Returns
+     * null when an entry can't be resolved, in which case the configured commands are
+     * used instead.
+     */
+    private List<ItemStack> resolveKit() {
+        if (kitTemplates != null) {
+            return kitTemplates;
+        }
+        if (kitUnavailable || kitEntries.isEmpty()) {
+            return null;
+        }
+        if (!qualityArmoryPresent) {
+            qualityArmoryPresent = Bukkit.getPluginManager().isPluginEnabled("QualityArmory");
+        }
+        List<ItemStack> templates = new ArrayList<>(kitEntries.size());
+        for (KitEntry entry : kitEntries) {
+            ItemStack item = qualityArmoryPresent ? lookupCustomItem(entry.name) : null;
+            if (item == null) {
+                Material material = Material.matchMaterial(entry.name);
+                if (material != null && material.isItem()) {
+                    item = new ItemStack(material);
+                }
+            }
+            if (item == null) {
+                if (!qualityArmoryPresent) {
+                    // Possibly a QualityArmory item; retry once the plugin is enabled
+                    return null;
+                }
+                plugin.getLogger().warning("Unknown seeker kit item '" + entry.name + "', falling back to seeker loadout commands.");
+                kitUnavailable = true;
+                return null;
+            }
+            ItemStack template = item.clone();
+            template.setAmount(Math.max(1, Math.min(entry.amount, template.getMaxStackSize())));
+            templates.add(template);
+        }
+        kitTemplates = List.copyOf(templates);
+        plugin.getLogger().info("Cached " + kitTemplates.size() + " seeker kit item(s).");
+        return kitTemplates;
+    }
+
+    // Only called while QualityArmory is enabled, so its classes are never loaded without it
+    private ItemStack lookupCustomItem(String name) {
+        try {
+            return QualityArmory.getCustomItemAsItemStack(name);
+        } catch (Throwable ex) {
+            plugin.getLogger().log(Level.FINE, "QualityArmory lookup failed for '" + name + "'", ex);
+            return null;
+        }
+    }
+
+    private void dispatchLoadoutCommands(Player player) {
         if (loadoutCommands.isEmpty()) {
             return;
         }
@@ -82,4 +166,39 @@ public class QualityArmoryHook {
         defaults.add("/qa give grenade %player%");
         return defaults;
     }
+
+    private List<KitEntry> defaultKit() {
+        List<KitEntry> defaults = new ArrayList<>();
+        defaults.add(new KitEntry("m16", 1));
+        defaults.add(new KitEntry("556", 30));
+        defaults.add(new KitEntry("grenade", 1));
+        return defaults;
+    }
+
+    private static final class KitEntry {
+        private final String name;
+        private final int amount;
+
+        private KitEntry(String name, int amount) {
+            this.name = name;
+            this.amount = amount;
+        }
+
+        private static KitEntry parse(String raw) {
+            if (raw == null || raw.isBlank()) {
+                return null;
+            }
+            String value = raw.trim();
+            int amount = 1;
+            int split = value.lastIndexOf(':');
+            if (split > 0) {
+                try {
+                    amount = Integer.parseInt(value.substring(split + 1).trim());
+                    value = value.substring(0, split).trim();
+                } catch (NumberFormatException ignored) {
+                }
+            }
+            return new KitEntry(value, amount);
+        }
+    }
 }
@@ -3,21 +3,24 @@ package org.ZeDoExter.doorHunt.util;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.ZeDoExter.doorHunt.DoorHunt;
+import org.ZeDoExter.doorHunt.session.PlayerSession;
+import org.ZeDoExter.doorHunt.session.SessionManager;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.ScoreboardManager;
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Team;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
@@ -43,11 +46,12 @@ public class TabListService {
     private final Team seekerTeam;
     private final Team hiderTeam;
 
-    // === State ===
-    private final Map<UUID, Role> activeRoles = new ConcurrentHashMap<>();
-    private final Map<UUID, Component> originalListNames = new ConcurrentHashMap<>();
-    private final Map<UUID, String> originalLegacyNames = new ConcurrentHashMap<>();
-    private final Map<UUID, String> lastKnownNames = new ConcurrentHashMap<>();
+    // === State (role/ชื่อเดิมเก็บไว้ใน PlayerSession) ===
+    private final SessionManager sessions;
+
+    // === ทีมที่รอ sync ลง scoreboard ของผู้เล่นทุกคน (null = เอาออกจากทีม) ===
+    private final Map<String, Role> pendingTeamChanges = new LinkedHashMap<>();
+    private BukkitTask teamSyncTask;
 
     // === TAB reflection handles ===
     private final boolean tabHooked;
@@ -71,8 +75,9 @@ public class TabListService {
     // === Paper detection (playerListName(Component)) ===
     private final boolean hasPaperListName;
 
-    public TabListService(DoorHunt plugin) {
+    public TabListService(DoorHunt plugin, SessionManager sessions) {
         this.plugin = plugin;
+        this.sessions = sessions;
 
         // --- Detect Paper Adventure API method availability safely ---
         boolean paperListName;
@@ -223,52 +228,58 @@ public class TabListService {
     public void setRole(Player player, Role role) {
         if (player == null || role == null) return;
 
-        UUID uuid = player.getUniqueId();
-        activeRoles.put(uuid, role);
-        lastKnownNames.put(uuid, player.getName());
+        PlayerSession session = sessions.get(player);
+        session.setRole(role);
+        session.setName(player.getName());
 
         boolean appliedTab = applyTabRole(player, role);
         updateScoreboardTeams(player, role);
-        applyListNameFallback(player, role, appliedTab);
+        applyListNameFallback(player, session, role, appliedTab);
     }
 
     public void clear(Player player) {
         if (player == null) return;
 
-        UUID uuid = player.getUniqueId();
-        activeRoles.remove(uuid);
-        lastKnownNames.remove(uuid);
+        PlayerSession session = sessions.get(player);
+        session.setRole(null);
 
         boolean appliedTab = clearTabRole(player);
         removeFromTeams(player.getName());
-        restoreListName(player, appliedTab);
+        restoreListName(player, session, appliedTab);
     }
 
     public void clear(UUID uuid) {
         if (uuid == null) return;
 
-        activeRoles.remove(uuid);
-        originalListNames.remove(uuid);
-        originalLegacyNames.remove(uuid);
-        String name = lastKnownNames.remove(uuid);
+        PlayerSession session = sessions.find(uuid);
+        String name = null;
+        if (session != null) {
+            session.setRole(null);
+            session.setOriginalListName(null);
+            session.setOriginalLegacyName(null);
+            name = session.getName();
+        }
+        if (name == null) {
+            name = plugin.getNameCache().getName(uuid);
+        }
         if (name != null) {
             removeFromTeams(name);
         }
     }
 
     public void clearAll() {
-        for (UUID uuid : new java.util.ArrayList<>(activeRoles.keySet())) {
-            Player p = Bukkit.getPlayer(uuid);
+        for (PlayerSession session : sessions.getSessions()) {
+            if (session.getRole() == null) {
+                continue;
+            }
+            Player p = Bukkit.getPlayer(session.getUuid());
             if (p != null) {
                 clear(p);
             } else {
-                clear(uuid);
+                clear(session.getUuid());
             }
         }
-        activeRoles.clear();
-        originalListNames.clear();
-        originalLegacyNames.clear();
-        lastKnownNames.clear();
+        flushTeamChanges();
     }
 
     // ===== Internals =====
@@ -363,39 +374,57 @@ public class TabListService {
 
     private void updateScoreboardTeams(Player player, Role role) {
         if (player == null || role == null) return;
-        String name = player.getName();
-        applyRoleToAllScoreboards(name, role);
+        queueTeamChange(player.getName(), role);
     }
 
-    private void applyRoleToAllScoreboards(String name, Role role) {
-        if (name == null || role == null) return;
-        Set<Scoreboard> processed = new HashSet<>();
-        if (mainScoreboard != null) {
-            processed.add(mainScoreboard);
-            applyRoleToScoreboard(mainScoreboard, name, role);
+    private void removeFromTeams(String name) {
+        if (name == null) return;
+        queueTeamChange(name, null);
+    }
+
+    // รวมการเปลี่ยนทีมไว้แล้ว sync ทีเดียว แทนการวนทุก scoreboard ต่อการเปลี่ยน 1 ครั้ง
+    private void queueTeamChange(String name, Role role) {
+        pendingTeamChanges.put(name, role);
+        if (!plugin.isEnabled()) {
+            flushTeamChanges();
+            return;
         }
-        for (Player viewer : Bukkit.getOnlinePlayers()) {
-            Scoreboard scoreboard = viewer.getScoreboard();
-            if (scoreboard == null || !processed.add(scoreboard)) {
-                continue;
-            }
-            applyRoleToScoreboard(scoreboard, name, role);
+        if (teamSyncTask == null) {
+            teamSyncTask = Bukkit.getScheduler().runTaskLater(plugin, this::flushTeamChanges,
+                    plugin.getLoadGovernor().getDeferDelay());
         }
     }
 
-    private void removeFromTeams(String name) {
-        if (name == null) return;
+    private void flushTeamChanges() {
+        if (teamSyncTask != null) {
+            teamSyncTask.cancel();
+            teamSyncTask = null;
+        }
+        if (pendingTeamChanges.isEmpty()) return;
+        Map<String, Role> changes = new LinkedHashMap<>(pendingTeamChanges);
+        pendingTeamChanges.clear();
+
         Set<Scoreboard> processed = new HashSet<>();
         if (mainScoreboard != null) {
             processed.add(mainScoreboard);
-            removeFromScoreboard(mainScoreboard, name);
+            applyTeamChanges(mainScoreboard, changes);
         }
         for (Player viewer : Bukkit.getOnlinePlayers()) {
             Scoreboard scoreboard = viewer.getScoreboard();
             if (scoreboard == null || !processed.add(scoreboard)) {
                 continue;
             }
-            removeFromScoreboard(scoreboard, name);
+            applyTeamChanges(scoreboard, changes);
+        }
+    }
+
+    private void applyTeamChanges(Scoreboard scoreboard, Map<String, Role> changes) {
+        for (Map.Entry<String, Role> change : changes.entrySet()) {
+            if (change.getValue() == null) {
+                removeFromScoreboard(scoreboard, change.getKey());
+            } else {
+                applyRoleToScoreboard(scoreboard, change.getKey(), change.getValue());
+            }
         }
     }
 
@@ -408,12 +437,13 @@ public class TabListService {
         safeClearEntries(seeker);
         safeClearEntries(hider);
 
-        for (Map.Entry<UUID, Role> entry : activeRoles.entrySet()) {
-            String name = resolveName(entry.getKey());
-            if (name == null) {
+        for (PlayerSession session : sessions.getSessions()) {
+            Role role = session.getRole();
+            String name = session.getName();
+            if (role == null || name == null) {
                 continue;
             }
-            Team target = entry.getValue() == Role.SEEKER ? seeker : hider;
+            Team target = role == Role.SEEKER ? seeker : hider;
             safeAddEntry(target, name);
         }
     }
@@ -446,46 +476,44 @@ public class TabListService {
         }
     }
 
-    private void applyListNameFallback(Player player, Role role, boolean appliedTab) {
+    private void applyListNameFallback(Player player, PlayerSession session, Role role, boolean appliedTab) {
         // ถ้า TAB จัดการแล้ว → คืนค่าเดิม/ไม่ทับชื่อ
         if (appliedTab) {
-            restoreListName(player, true);
+            restoreListName(player, session, true);
             return;
         }
 
-        UUID uuid = player.getUniqueId();
-
         if (hasPaperListName) {
             // เก็บของเดิมเป็น Component
-            originalListNames.computeIfAbsent(uuid, key -> {
+            if (session.getOriginalListName() == null) {
                 Component cur = player.playerListName();
-                return (cur != null) ? cur : Component.text(player.getName());
-            });
+                session.setOriginalListName((cur != null) ? cur : Component.text(player.getName()));
+            }
             NamedTextColor color = (role == Role.SEEKER) ? NamedTextColor.RED : NamedTextColor.GREEN;
             player.playerListName(Component.text(player.getName(), color));
         } else {
             // Legacy Spigot
-            originalLegacyNames.computeIfAbsent(uuid, key -> {
+            if (session.getOriginalLegacyName() == null) {
                 String cur = player.getPlayerListName();
-                return (cur != null) ? cur : player.getName();
-            });
+                session.setOriginalLegacyName((cur != null) ? cur : player.getName());
+            }
             String color = (role == Role.SEEKER) ? ChatColor.RED.toString() : ChatColor.GREEN.toString();
             player.setPlayerListName(color + player.getName());
         }
     }
 
-    private void restoreListName(Player player, boolean fromTab) {
-        UUID uuid = player.getUniqueId();
-
+    private void restoreListName(Player player, PlayerSession session, boolean fromTab) {
         if (hasPaperListName) {
-            Component original = originalListNames.remove(uuid);
+            Component original = session.getOriginalListName();
+            session.setOriginalListName(null);
             if (original != null) {
                 player.playerListName(original);
             } else if (!fromTab) {
                 player.playerListName(Component.text(player.getName()));
             }
         } else {
-            String orig = originalLegacyNames.remove(uuid);
+            String orig = session.getOriginalLegacyName();
+            session.setOriginalLegacyName(null);
             if (orig != null) {
                 player.setPlayerListName(orig);
             } else if (!fromTab) {
@@ -543,26 +571,6 @@ public class TabListService {
         }
     }
 
-    private String resolveName(UUID uuid) {
-        if (uuid == null) {
-            return null;
-        }
-        String name = lastKnownNames.get(uuid);
-        if (name != null) {
-            return name;
-        }
-        Player online = Bukkit.getPlayer(uuid);
-        if (online != null) {
-            name = online.getName();
-        } else {
-            name = Bukkit.getOfflinePlayer(uuid).getName();
-        }
-        if (name != null) {
-            lastKnownNames.put(uuid, name);
-        }
-        return name;
-    }
-
     // === Reflection helpers ===
 
     private Method findMethod(Class<?> type, String name, Class<?> parameter) {